@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class LoadGenerator {
+
+    private static final List<String> ENDPOINTS = Arrays.asList(
+            "/plain", "/validate-request", "/validate-response", "/wrap-errors", "/all");
+
+    private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("threads", Runtime.getRuntime().availableProcessors());
+        Duration warmup = Duration.ofSeconds(Long.getLong("warmup", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("duration", 10));
+        int items = Integer.getInteger("items", 50);
+        List<String> converters = Arrays.asList(System.getProperty("converters", "true,false").split(","));
+        int startups = Integer.getInteger("startups", 5);
+
+        System.out.printf("threads=%d, warmup=%ds, duration=%ds, items=%d, startups=%d%n",
+                threads, warmup.getSeconds(), duration.getSeconds(), items, startups);
+        if (startups > 0) {
+            System.out.printf("%-10s %12s %12s %12s%n", "converter", "first ms", "median ms", "min ms");
+            for (String converter : converters) {
+                measureStartup(converter.trim(), startups);
+            }
+        }
+
+        System.out.printf("%-10s %-20s %-8s %10s %10s %10s %10s %10s %12s %10s %8s%n",
+                "converter", "endpoint", "outcome", "req/s", "p50 us", "p90 us", "p99 us", "max us", "alloc MB/s",
+                "KB/req", "errors");
+
+        for (String converter : converters) {
+            runAll(converter.trim(), threads, warmup, duration, items);
+        }
+    }
+
+    private static void measureStartup(String converter, int startups) {
+        long[] times = new long[startups];
+        for (int index = 0; index < startups; index++) {
+            long start = System.nanoTime();
+            ConfigurableApplicationContext context = startApplication(converter);
+            times[index] = System.nanoTime() - start;
+            context.close();
+        }
+        long first = times[0];
+        Arrays.sort(times);
+        System.out.printf("%-10s %12d %12d %12d%n",
+                describe(converter), first / 1_000_000, times[startups / 2] / 1_000_000, times[0] / 1_000_000);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String converter) {
+        return SpringApplication.run(LoadTestApplication.class,
+                "--server.port=0", "--json-data.serialization.converter=" + converter);
+    }
+
+    private static String describe(String converter) {
+        return "true".equals(converter) ? "dedicated" : "generic";
+    }
+
+    private static void runAll(String converter, int threads, Duration warmup, Duration duration, int items)
+            throws Exception {
+        ConfigurableApplicationContext context = startApplication(converter);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+
+            for (String endpoint : ENDPOINTS) {
+                for (boolean success : new boolean[]{true, false}) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(createBody(success, items), StandardCharsets.UTF_8))
+                            .build();
+
+                    run(client, request, success, threads, warmup);
+                    Result result = run(client, request, success, threads, duration);
+                    System.out.printf("%-10s %-20s %-8s %10.0f %10d %10d %10d %10d %12.1f %10.2f %8d%n",
+                            describe(converter),
+                            endpoint, success ? "success" : "error",
+                            result.getThroughput(),
+                            result.getPercentile(0.50) / 1_000,
+                            result.getPercentile(0.90) / 1_000,
+                            result.getPercentile(0.99) / 1_000,
+                            result.getPercentile(1.00) / 1_000,
+                            result.getAllocationRate() / (1024 * 1024),
+                            result.getAllocationPerRequest() / 1024,
+                            result.unexpected);
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, boolean success, int threads, Duration duration)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<Long, Long> allocatedBefore = serverAllocations();
+            long start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+
+            List<Future<Latencies>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    Latencies latencies = new Latencies();
+                    while (System.nanoTime() < deadline) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies.add(System.nanoTime() - requestStart, isExpected(response.statusCode(), success));
+                    }
+                    return latencies;
+                }));
+            }
+
+            Latencies total = new Latencies();
+            for (Future<Latencies> future : futures) {
+                total.addAll(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = serverAllocated(allocatedBefore);
+            return new Result(total, elapsed, allocated);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isExpected(int status, boolean success) {
+        return success ? status == 200 : status >= 400;
+    }
+
+    private static String createBody(boolean success, int items) {
+        String itemsJson = IntStream.range(0, items)
+                .mapToObj(index -> "{\"name\":\"item-" + index + "\",\"value\":" + index + "}")
+                .collect(Collectors.joining(",", "[", "]"));
+        return success
+                ? "{\"id\":\"load-test\",\"outcome\":\"SUCCESS\",\"items\":" + itemsJson + "}"
+                : "{\"outcome\":\"FAILURE\",\"items\":" + itemsJson + "}";
+    }
+
+    private static Map<Long, Long> serverAllocations() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocations = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SERVER_THREAD_PREFIX)) {
+                long allocated = threads.getThreadAllocatedBytes(thread.getId());
+                if (allocated >= 0) {
+                    allocations.put(thread.getId(), allocated);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    private static long serverAllocated(Map<Long, Long> before) {
+        long allocated = 0;
+        for (Map.Entry<Long, Long> thread : serverAllocations().entrySet()) {
+            allocated += thread.getValue() - before.getOrDefault(thread.getKey(), 0L);
+        }
+        return allocated;
+    }
+
+    static class Latencies {
+
+        long[] values = new long[1024];
+        int size;
+        int unexpected;
+
+        void add(long latency, boolean expected) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latency;
+            if (!expected) {
+                unexpected++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            for (int index = 0; index < other.size; index++) {
+                add(other.values[index], true);
+            }
+            unexpected += other.unexpected;
+        }
+
+    }
+
+    static class Result {
+
+        long[] latencies;
+        long elapsed;
+        long allocated;
+        int unexpected;
+
+        Result(Latencies latencies, long elapsed, long allocated) {
+            this.latencies = Arrays.copyOf(latencies.values, latencies.size);
+            Arrays.sort(this.latencies);
+            this.elapsed = elapsed;
+            this.allocated = allocated;
+            this.unexpected = latencies.unexpected;
+        }
+
+        double getThroughput() {
+            return latencies.length * 1e9 / elapsed;
+        }
+
+        long getPercentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(latencies.length - 1, index))];
+        }
+
+        double getAllocationRate() {
+            return allocated * 1e9 / elapsed;
+        }
+
+        double getAllocationPerRequest() {
+            return latencies.length == 0 ? 0 : (double) allocated / latencies.length;
+        }
+
+    }
+
+}
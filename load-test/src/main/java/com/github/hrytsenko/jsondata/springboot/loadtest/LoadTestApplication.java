@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.loadtest;
+
+import com.github.hrytsenko.jsondata.JsonEntity;
+import com.github.hrytsenko.jsondata.springboot.error.WrapErrors;
+import com.github.hrytsenko.jsondata.springboot.web.ValidateRequest;
+import com.github.hrytsenko.jsondata.springboot.web.ValidateResponse;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@SpringBootApplication
+public class LoadTestApplication {
+
+    public static class Request extends JsonEntity<Request> {
+
+        String getId() {
+            return getString("id");
+        }
+
+        boolean isFailure() {
+            return "FAILURE".equals(getString("outcome"));
+        }
+
+    }
+
+    public static class Response extends JsonEntity<Response> {
+    }
+
+    @RestController
+    static class LoadTestController {
+
+        @PostMapping(
+                value = "/plain",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+        public Response plain(@RequestBody Request request) {
+            return handle(request);
+        }
+
+        @PostMapping(
+                value = "/validate-request",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+        @ValidateRequest("/request-schema.json")
+        public Response validateRequest(@RequestBody Request request) {
+            return handle(request);
+        }
+
+        @PostMapping(
+                value = "/validate-response",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+        @ValidateResponse("/response-schema.json")
+        public Response validateResponse(@RequestBody Request request) {
+            return handle(request);
+        }
+
+        @PostMapping(
+                value = "/wrap-errors",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+        @WrapErrors("LOAD_TEST_FAILED")
+        public Response wrapErrors(@RequestBody Request request) {
+            return handle(request);
+        }
+
+        @PostMapping(
+                value = "/all",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+        @ValidateRequest("/request-schema.json")
+        @ValidateResponse("/response-schema.json")
+        @WrapErrors("LOAD_TEST_FAILED")
+        public Response all(@RequestBody Request request) {
+            return handle(request);
+        }
+
+        private static Response handle(Request request) {
+            if (request.isFailure()) {
+                throw new IllegalStateException("Requested failure");
+            }
+            return new Response()
+                    .putString("id", request.getId())
+                    .putString("status", "ACCEPTED");
+        }
+
+    }
+
+}
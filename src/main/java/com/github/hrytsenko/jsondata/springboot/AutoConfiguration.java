@@ -16,35 +16,69 @@
 package com.github.hrytsenko.jsondata.springboot;
 
 import com.github.hrytsenko.jsondata.JsonResources;
-import com.github.hrytsenko.jsondata.JsonValidator;
+import com.github.hrytsenko.jsondata.springboot.actuator.ActuatorConfiguration;
 import com.github.hrytsenko.jsondata.springboot.error.CorrelationSource;
+import com.github.hrytsenko.jsondata.springboot.error.ErrorConfiguration;
+import com.github.hrytsenko.jsondata.springboot.error.ErrorProperties;
+import com.github.hrytsenko.jsondata.springboot.error.MdcCorrelationSource;
+import com.github.hrytsenko.jsondata.springboot.web.CachingValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.DirectoryValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.SchemaRegistry;
+import com.github.hrytsenko.jsondata.springboot.web.SerializationProperties;
+import com.github.hrytsenko.jsondata.springboot.web.TimingProperties;
+import com.github.hrytsenko.jsondata.springboot.web.ValidationProperties;
 import com.github.hrytsenko.jsondata.springboot.web.ValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorStatistics;
+import com.github.hrytsenko.jsondata.springboot.web.WebConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.StringUtils;
 
-@Configuration
-@ComponentScan(basePackageClasses = AutoConfiguration.class)
+import java.nio.file.Paths;
+
+@Configuration(proxyBeanMethods = false)
+@Import({WebConfiguration.class, ErrorConfiguration.class, ActuatorConfiguration.class})
+@EnableConfigurationProperties({ValidationProperties.class, SerializationProperties.class, ErrorProperties.class,
+        TimingProperties.class})
 @Slf4j
 class AutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public CorrelationSource undefinedCorrelationSource() {
-        log.warn("Correlation source is missing");
-        return () -> "UNDEFINED";
+    public CorrelationSource defaultCorrelationSource(ErrorProperties errorProperties) {
+        log.info("Use default correlation source");
+        return new MdcCorrelationSource(errorProperties.getCorrelation().getMdcKey());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ValidatorStatistics validatorStatistics() {
+        return new ValidatorStatistics();
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public ValidatorSource defaultValidatorSource() {
+    public ValidatorSource defaultValidatorSource(ValidatorStatistics validatorStatistics,
+                                                  ValidationProperties validationProperties) {
+        String schemaDirectory = validationProperties.getSchemaDirectory();
+        if (StringUtils.hasText(schemaDirectory) && validationProperties.isRegistry()) {
+            throw new IllegalStateException(
+                    "Schema directory and schema registry cannot be used together: " + schemaDirectory);
+        }
+        if (StringUtils.hasText(schemaDirectory)) {
+            log.info("Use validator source for directory {}", schemaDirectory);
+            return new DirectoryValidatorSource(Paths.get(schemaDirectory), validatorStatistics);
+        }
+        if (validationProperties.isRegistry()) {
+            log.info("Use schema registry");
+            return new SchemaRegistry(JsonResources::readResource, validatorStatistics);
+        }
         log.info("Use default validator source");
-        return resourceName -> {
-            String schema = JsonResources.readResource(resourceName);
-            return JsonValidator.create(schema);
-        };
+        return new CachingValidatorSource(JsonResources::readResource, validatorStatistics);
     }
 
 }
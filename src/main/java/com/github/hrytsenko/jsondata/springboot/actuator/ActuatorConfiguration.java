@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.actuator;
+
+import com.github.hrytsenko.jsondata.springboot.web.ValidationMemo;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class ActuatorConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ValidatorEndpoint validatorEndpoint(ValidatorStatistics validatorStatistics, ValidatorSource validatorSource) {
+        return new ValidatorEndpoint(validatorStatistics, validatorSource);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "json-data.validation.memo", name = "enabled")
+        public ValidationMemoMetrics validationMemoMetrics(ValidationMemo validationMemo) {
+            return new ValidationMemoMetrics(validationMemo);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "json-data.validation", name = "registry")
+        public SchemaRegistryMetrics schemaRegistryMetrics(ValidatorSource validatorSource) {
+            return new SchemaRegistryMetrics(validatorSource);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "json-data.timing", name = "enabled")
+        public RequestTimingMetrics requestTimingMetrics() {
+            return new RequestTimingMetrics();
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.actuator;
+
+import com.github.hrytsenko.jsondata.springboot.web.RequestTimings;
+import com.github.hrytsenko.jsondata.springboot.web.RequestTimingsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RequestTimingMetrics implements MeterBinder, RequestTimingsListener {
+
+    AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(RequestTimings.Phase.values().length);
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RequestTimings.Phase phase : RequestTimings.Phase.values()) {
+            timers.set(phase.ordinal(), Timer.builder("json-data.request.phase")
+                    .description("Time spent in a phase of requests with JSON entities")
+                    .tag("phase", phase.getName())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void onTimings(RequestTimings timings) {
+        for (RequestTimings.Phase phase : RequestTimings.Phase.values()) {
+            Timer timer = timers.get(phase.ordinal());
+            if (timer != null && timings.isRecorded(phase)) {
+                timer.record(timings.getNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+}
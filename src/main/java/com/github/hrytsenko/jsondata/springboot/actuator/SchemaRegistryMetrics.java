@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.actuator;
+
+import com.github.hrytsenko.jsondata.springboot.web.SchemaRegistry;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class SchemaRegistryMetrics implements MeterBinder {
+
+    ValidatorSource validatorSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(validatorSource instanceof SchemaRegistry)) {
+            return;
+        }
+
+        SchemaRegistry schemaRegistry = (SchemaRegistry) validatorSource;
+        Gauge.builder("json-data.validation.registry.validators", schemaRegistry, SchemaRegistry::getCompiledCount)
+                .description("Distinct compiled validators")
+                .register(registry);
+        Gauge.builder("json-data.validation.registry.memory", schemaRegistry, SchemaRegistry::getTotalMemory)
+                .description("Memory estimate of compiled validators")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.actuator;
+
+import com.github.hrytsenko.jsondata.springboot.web.ValidationMemo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class ValidationMemoMetrics implements MeterBinder {
+
+    ValidationMemo validationMemo;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("json-data.validation.memo", validationMemo, ValidationMemo::getHits)
+                .description("Validations answered from the memo")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("json-data.validation.memo", validationMemo, ValidationMemo::getMisses)
+                .description("Validations performed after a memo lookup")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("json-data.validation.memo.size", validationMemo, ValidationMemo::getSize)
+                .description("Validation outcomes kept in the memo")
+                .register(registry);
+    }
+
+}
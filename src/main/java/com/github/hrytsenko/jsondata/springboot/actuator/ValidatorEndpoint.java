@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.actuator;
+
+import com.github.hrytsenko.jsondata.springboot.web.CachingValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorStatistics;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Endpoint(id = "jsonschemas")
+@AllArgsConstructor
+public class ValidatorEndpoint {
+
+    ValidatorStatistics validatorStatistics;
+    ValidatorSource validatorSource;
+
+    @ReadOperation
+    public Map<String, Object> schemas() {
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        validatorStatistics.getSchemas().stream()
+                .sorted(Comparator.comparing(ValidatorStatistics.SchemaStatistics::getName))
+                .forEach(schema -> schemas.put(schema.getName(), describe(schema)));
+        return schemas;
+    }
+
+    @ReadOperation
+    public Map<String, Object> schema(@Selector(match = Selector.Match.ALL_REMAINING) String[] path) {
+        ValidatorStatistics.SchemaStatistics schema = validatorStatistics.getSchema(resolveName(path));
+        return schema != null ? describe(schema) : null;
+    }
+
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector(match = Selector.Match.ALL_REMAINING) String[] path) {
+        String name = resolveName(path);
+        if (!(validatorSource instanceof CachingValidatorSource)) {
+            return result(name, "UNSUPPORTED");
+        }
+        return ((CachingValidatorSource) validatorSource).evict(name)
+                ? result(name, "EVICTED")
+                : result(name, "NOT_FOUND");
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> recompile(
+            @Selector(match = Selector.Match.ALL_REMAINING) String[] path) {
+        String name = resolveName(path);
+        if (!(validatorSource instanceof CachingValidatorSource)) {
+            return new WebEndpointResponse<>(result(name, "UNSUPPORTED"));
+        }
+        CachingValidatorSource cachingValidatorSource = (CachingValidatorSource) validatorSource;
+        if (!cachingValidatorSource.contains(name)) {
+            return new WebEndpointResponse<>(result(name, "NOT_FOUND"), WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        cachingValidatorSource.recompile(name);
+        ValidatorStatistics.SchemaStatistics schema = validatorStatistics.getSchema(name);
+        return new WebEndpointResponse<>(schema != null ? describe(schema) : result(name, "RECOMPILED"));
+    }
+
+    private String resolveName(String[] path) {
+        String name = String.join("/", path);
+        return validatorStatistics.getSchema(name) != null || name.startsWith("/")
+                ? name
+                : "/" + name;
+    }
+
+    private static Map<String, Object> describe(ValidatorStatistics.SchemaStatistics schema) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", toMicros(schema.getLatencyPercentile(0.50)));
+        latency.put("p90", toMicros(schema.getLatencyPercentile(0.90)));
+        latency.put("p99", toMicros(schema.getLatencyPercentile(0.99)));
+        latency.put("max", toMicros(schema.getLatencyPercentile(1.00)));
+
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("name", schema.getName());
+        description.put("compiled", schema.isCompiled());
+        description.put("compileTimeMicros", toMicros(schema.getCompileNanos()));
+        description.put("memoryEstimateBytes", schema.getMemoryEstimate());
+        description.put("invocations", schema.getInvocations());
+        description.put("failures", schema.getFailures());
+        description.put("latencyMicros", latency);
+        return description;
+    }
+
+    private static Map<String, Object> result(String name, String status) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("status", status);
+        return result;
+    }
+
+    private static long toMicros(long nanos) {
+        return nanos < 0 ? nanos : TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import lombok.AllArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@AllArgsConstructor
+class CorrelationFilter extends OncePerRequestFilter {
+
+    private static final String CORRELATION_ATTRIBUTE = CorrelationFilter.class.getName() + ".CORRELATION";
+    private static final int MAX_LENGTH = 64;
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    String header;
+    String mdcKey;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String correlation = (String) request.getAttribute(CORRELATION_ATTRIBUTE);
+        if (correlation == null) {
+            correlation = request.getHeader(header);
+            if (!isValid(correlation)) {
+                correlation = generateCorrelation();
+            }
+            request.setAttribute(CORRELATION_ATTRIBUTE, correlation);
+            response.setHeader(header, correlation);
+        }
+
+        String previous = MDC.get(mdcKey);
+        MDC.put(mdcKey, correlation);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (previous != null) {
+                MDC.put(mdcKey, previous);
+            } else {
+                MDC.remove(mdcKey);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    static String generateCorrelation() {
+        long value = ThreadLocalRandom.current().nextLong();
+        char[] correlation = new char[Long.SIZE / 4];
+        for (int index = correlation.length - 1; index >= 0; index--) {
+            correlation[index] = DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+        return new String(correlation);
+    }
+
+    static boolean isValid(String correlation) {
+        if (correlation == null || correlation.isEmpty() || correlation.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int index = 0; index < correlation.length(); index++) {
+            char symbol = correlation.charAt(index);
+            boolean valid = symbol >= 'a' && symbol <= 'z'
+                    || symbol >= 'A' && symbol <= 'Z'
+                    || symbol >= '0' && symbol <= '9'
+                    || symbol == '-' || symbol == '_' || symbol == '.';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import lombok.AllArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+@AllArgsConstructor
+class CorrelationTaskDecorator implements TaskDecorator {
+
+    String mdcKey;
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String correlation = MDC.get(mdcKey);
+        if (correlation == null) {
+            return runnable;
+        }
+        return () -> {
+            String previous = MDC.get(mdcKey);
+            MDC.put(mdcKey, correlation);
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    MDC.put(mdcKey, previous);
+                } else {
+                    MDC.remove(mdcKey);
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration(proxyBeanMethods = false)
+public class ErrorConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.errors", name = "advice", matchIfMissing = true)
+    public ExceptionAdvice exceptionAdvice(CorrelationSource correlationSource) {
+        return new ExceptionAdvice(correlationSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.errors", name = "wrap", matchIfMissing = true)
+    public WrapErrorsAspect wrapErrorsAspect() {
+        return new WrapErrorsAspect();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.errors.correlation", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<CorrelationFilter> correlationFilter(ErrorProperties errorProperties,
+                                                                       CorrelationSource correlationSource) {
+        ErrorProperties.Correlation correlation = errorProperties.getCorrelation();
+        FilterRegistrationBean<CorrelationFilter> registration = new FilterRegistrationBean<>(
+                new CorrelationFilter(correlation.getHeader(), correlation.getMdcKey()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(correlationSource instanceof MdcCorrelationSource);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.errors.correlation", name = "enabled", matchIfMissing = true)
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TaskDecorator correlationTaskDecorator(ErrorProperties errorProperties) {
+        return new CorrelationTaskDecorator(errorProperties.getCorrelation().getMdcKey());
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.NonFinal;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("json-data.errors")
+@Getter
+@Setter
+public class ErrorProperties {
+
+    @NonFinal
+    boolean advice = true;
+    @NonFinal
+    boolean wrap = true;
+    Correlation correlation = new Correlation();
+
+    @Getter
+    @Setter
+    public static class Correlation {
+
+        @NonFinal
+        boolean enabled = true;
+        @NonFinal
+        String header = "X-Correlation-ID";
+        @NonFinal
+        String mdcKey = "correlation";
+
+    }
+
+}
@@ -16,6 +16,7 @@
 package com.github.hrytsenko.jsondata.springboot.error;
 
 import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonEntity;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
@@ -25,6 +26,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestControllerAdvice
 @Order
 @Slf4j
@@ -42,7 +48,7 @@ class ExceptionAdvice {
     @ExceptionHandler(ServiceException.BadRequest.class)
     ResponseEntity<JsonBean> onBadRequest(ServiceException.BadRequest exception) {
         log.error("Bad request", exception);
-        return errorResponse(HttpStatus.BAD_REQUEST, exception.getCode());
+        return errorResponse(HttpStatus.BAD_REQUEST, exception.getCode(), exception.getDetails());
     }
 
     @ExceptionHandler(ServiceException.Unauthorized.class)
@@ -66,7 +72,7 @@ class ExceptionAdvice {
     @ExceptionHandler(ServiceException.InternalError.class)
     ResponseEntity<JsonBean> onInternalError(ServiceException.InternalError exception) {
         log.error("Internal error", exception);
-        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, exception.getCode());
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, exception.getCode(), exception.getDetails());
     }
 
     @ExceptionHandler(ServiceException.ServiceUnavailable.class)
@@ -76,11 +82,21 @@ class ExceptionAdvice {
     }
 
     private ResponseEntity<JsonBean> errorResponse(HttpStatus status, String code) {
+        return errorResponse(status, code, Collections.emptyList());
+    }
+
+    private ResponseEntity<JsonBean> errorResponse(HttpStatus status, String code, List<String> details) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("correlation", correlationSource.getCorrelation());
+        error.put("code", code);
+        if (!details.isEmpty()) {
+            error.put("details", details);
+        }
+
         return ResponseEntity.status(status)
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(new JsonBean()
-                        .putString("error.correlation", correlationSource.getCorrelation())
-                        .putString("error.code", code));
+                .body((JsonBean) new JsonEntity.Factory(JsonBean.class)
+                        .createFromMap(Collections.singletonMap("error", error)));
     }
 
 }
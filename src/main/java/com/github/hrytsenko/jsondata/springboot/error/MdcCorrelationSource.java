@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import lombok.AllArgsConstructor;
+import org.slf4j.MDC;
+
+@AllArgsConstructor
+public class MdcCorrelationSource implements CorrelationSource {
+
+    String mdcKey;
+
+    @Override
+    public String getCorrelation() {
+        String correlation = MDC.get(mdcKey);
+        return correlation != null ? correlation : "UNDEFINED";
+    }
+
+}
@@ -17,14 +17,23 @@ package com.github.hrytsenko.jsondata.springboot.error;
 
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.List;
+
 @Getter
 public class ServiceException extends RuntimeException {
 
     String code;
+    List<String> details;
 
     private ServiceException(String code, Throwable cause) {
+        this(code, Collections.emptyList(), cause);
+    }
+
+    private ServiceException(String code, List<String> details, Throwable cause) {
         super(cause);
         this.code = code;
+        this.details = details;
     }
 
     public static class BadRequest extends ServiceException {
@@ -37,6 +46,10 @@ public class ServiceException extends RuntimeException {
             super(code, cause);
         }
 
+        public BadRequest(String code, List<String> details, Throwable cause) {
+            super(code, details, cause);
+        }
+
     }
 
     public static class Unauthorized extends ServiceException {
@@ -85,6 +98,10 @@ public class ServiceException extends RuntimeException {
             super(code, cause);
         }
 
+        public InternalError(String code, List<String> details, Throwable cause) {
+            super(code, details, cause);
+        }
+
     }
 
     public static class ServiceUnavailable extends ServiceException {
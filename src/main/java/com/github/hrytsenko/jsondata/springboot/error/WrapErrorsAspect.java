@@ -15,26 +15,34 @@
  */
 package com.github.hrytsenko.jsondata.springboot.error;
 
+import com.github.hrytsenko.jsondata.springboot.internal.AsyncResults;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.context.annotation.Configuration;
 
 @Aspect
-@Configuration
 class WrapErrorsAspect {
 
     @Around("@annotation(config)")
     @SneakyThrows
     Object handle(ProceedingJoinPoint point, WrapErrors config) {
+        Object result;
         try {
-            return point.proceed();
+            result = point.proceed();
         } catch (ServiceException exception) {
             throw exception;
         } catch (Exception exception) {
             throw new ServiceException.InternalError(config.value(), exception);
         }
+
+        return AsyncResults.intercept(result, value -> {}, error -> wrap(error, config));
+    }
+
+    private static Throwable wrap(Throwable error, WrapErrors config) {
+        return error instanceof Exception && !(error instanceof ServiceException)
+                ? new ServiceException.InternalError(config.value(), error)
+                : error;
     }
 
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.internal;
+
+import lombok.SneakyThrows;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+public final class AsyncResults {
+
+    private AsyncResults() {
+    }
+
+    public static Object intercept(Object result, Consumer<Object> onValue, UnaryOperator<Throwable> onError) {
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<?>) result).handle((value, error) -> {
+                if (error != null) {
+                    throw new CompletionException(onError.apply(unwrap(error)));
+                }
+                onValue.accept(value);
+                return value;
+            });
+        }
+        if (result instanceof Callable) {
+            Callable<?> callable = (Callable<?>) result;
+            return (Callable<Object>) () -> {
+                Object value;
+                try {
+                    value = callable.call();
+                } catch (Exception exception) {
+                    throw rethrow(onError.apply(exception));
+                }
+                onValue.accept(value);
+                return value;
+            };
+        }
+        if (result instanceof DeferredResult) {
+            return interceptDeferred((DeferredResult<?>) result, onValue, onError);
+        }
+
+        onValue.accept(result);
+        return result;
+    }
+
+    private static Object interceptDeferred(DeferredResult<?> deferred,
+                                            Consumer<Object> onValue, UnaryOperator<Throwable> onError) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return deferred;
+        }
+
+        WebAsyncUtils.getAsyncManager(((ServletRequestAttributes) attributes).getRequest())
+                .registerDeferredResultInterceptor(new Object(), new DeferredResultProcessingInterceptor() {
+                    @Override
+                    public <T> void postProcess(NativeWebRequest request, DeferredResult<T> result,
+                                                Object concurrentResult) {
+                        if (result != deferred) {
+                            return;
+                        }
+                        if (concurrentResult instanceof Throwable) {
+                            Throwable error = onError.apply((Throwable) concurrentResult);
+                            if (error != concurrentResult) {
+                                throw rethrow(error);
+                            }
+                            return;
+                        }
+                        onValue.accept(concurrentResult);
+                    }
+                });
+        return deferred;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return (error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+
+    @SneakyThrows
+    private static RuntimeException rethrow(Throwable error) {
+        throw error;
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonEntity;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.Validator;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class CachingValidatorSource implements ValidatorSource {
+
+    private static final Validator FAIL_EARLY = Validator.builder()
+            .failEarly()
+            .build();
+
+    Function<String, String> schemaLoader;
+    ValidatorStatistics statistics;
+    ConcurrentMap<String, JsonValidator> validators;
+    ConcurrentMap<String, Map<String, ?>> schemas;
+    ConcurrentMap<String, Map.Entry<Map<String, ?>, Schema>> failEarlySchemas;
+
+    public CachingValidatorSource(Function<String, String> schemaLoader, ValidatorStatistics statistics) {
+        this.schemaLoader = schemaLoader;
+        this.statistics = statistics;
+        this.validators = new ConcurrentHashMap<>();
+        this.schemas = new ConcurrentHashMap<>();
+        this.failEarlySchemas = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public JsonValidator getValidator(String name) {
+        JsonValidator validator = validators.get(name);
+        return validator != null
+                ? validator
+                : validators.computeIfAbsent(name, this::compile);
+    }
+
+    public Map<String, ?> getSchema(String name) {
+        Map<String, ?> schema = schemas.get(name);
+        return schema != null
+                ? schema
+                : schemas.computeIfAbsent(name, key -> JsonParser.stringToMap(loadSchema(key)));
+    }
+
+    void validateFailEarly(String name, JsonEntity<?> entity) {
+        Schema schema = getFailEarlySchema(name);
+        if (schema == null) {
+            getValidator(name).validate(entity);
+            return;
+        }
+        FAIL_EARLY.performValidation(schema, toJson(entity.asMap()));
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(validators.keySet());
+    }
+
+    public boolean contains(String name) {
+        return validators.containsKey(name);
+    }
+
+    Collection<JsonValidator> getValidators() {
+        return Collections.unmodifiableCollection(validators.values());
+    }
+
+    public boolean evict(String name) {
+        statistics.recordEviction(name);
+        schemas.remove(name);
+        failEarlySchemas.remove(name);
+        return validators.remove(name) != null;
+    }
+
+    public JsonValidator recompile(String name) {
+        JsonValidator validator = compile(name);
+        validators.put(name, validator);
+        schemas.remove(name);
+        failEarlySchemas.remove(name);
+        return validator;
+    }
+
+    protected String loadSchema(String name) {
+        return schemaLoader.apply(name);
+    }
+
+    protected JsonValidator createValidator(String schema) {
+        return JsonValidator.create(schema);
+    }
+
+    private JsonValidator compile(String name) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        JsonValidator validator = createValidator(loadSchema(name));
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+
+        statistics.recordCompilation(name, elapsed,
+                allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore);
+        return validator;
+    }
+
+    private Schema getFailEarlySchema(String name) {
+        Map<String, ?> schema = getSchema(name);
+        Map.Entry<Map<String, ?>, Schema> failEarlySchema = failEarlySchemas.get(name);
+        if (failEarlySchema == null || failEarlySchema.getKey() != schema) {
+            failEarlySchema = new AbstractMap.SimpleImmutableEntry<>(schema, hasOnlyLocalReferences(schema)
+                    ? SchemaLoader.load((JSONObject) toJson(schema))
+                    : null);
+            failEarlySchemas.put(name, failEarlySchema);
+        }
+        return failEarlySchema.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean hasOnlyLocalReferences(Object node) {
+        if (node instanceof Map) {
+            for (Map.Entry<String, ?> field : ((Map<String, ?>) node).entrySet()) {
+                if ("$ref".equals(field.getKey()) && field.getValue() instanceof String
+                        ? !((String) field.getValue()).startsWith("#")
+                        : !hasOnlyLocalReferences(field.getValue())) {
+                    return false;
+                }
+            }
+        } else if (node instanceof List) {
+            for (Object item : (List<?>) node) {
+                if (!hasOnlyLocalReferences(item)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object toJson(Object value) {
+        if (value == null) {
+            return JSONObject.NULL;
+        }
+        if (value instanceof Map) {
+            JSONObject object = new JSONObject();
+            ((Map<String, ?>) value).forEach((key, field) -> object.put(key, toJson(field)));
+            return object;
+        }
+        if (value instanceof List) {
+            JSONArray array = new JSONArray();
+            for (Object item : (List<?>) value) {
+                array.put(toJson(item));
+            }
+            return array;
+        }
+        return value;
+    }
+
+    static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        return allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()
+                ? allocations.getThreadAllocatedBytes(Thread.currentThread().getId())
+                : -1;
+    }
+
+}
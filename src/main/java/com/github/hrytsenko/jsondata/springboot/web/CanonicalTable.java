@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+class CanonicalTable {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    String[] strings;
+    int mask;
+
+    CanonicalTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(capacity, MAX_CAPACITY)));
+        this.strings = new String[size];
+        this.mask = size - 1;
+    }
+
+    String canonicalize(String value) {
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String canonical = strings[index];
+        if (value.equals(canonical)) {
+            return canonical;
+        }
+        strings[index] = value;
+        return value;
+    }
+
+    int size() {
+        return (int) Arrays.stream(strings)
+                .filter(Objects::nonNull)
+                .count();
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+public class DirectoryValidatorSource extends CachingValidatorSource implements DisposableBean {
+
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    Path directory;
+    WatchService watchService;
+    Thread watcher;
+
+    public DirectoryValidatorSource(Path directory, ValidatorStatistics statistics) {
+        this(statistics, directory.toAbsolutePath().normalize());
+    }
+
+    private DirectoryValidatorSource(ValidatorStatistics statistics, Path directory) {
+        super(name -> readSchema(directory, name), statistics);
+        this.directory = directory;
+        this.watchService = createWatchService(directory);
+        this.watcher = startWatcher();
+    }
+
+    static Path resolveSchema(Path directory, String name) {
+        Path schema = directory.resolve(name.startsWith("/") ? name.substring(1) : name).normalize();
+        if (!schema.startsWith(directory)) {
+            throw new IllegalArgumentException("Schema is outside of directory: " + name);
+        }
+        return schema;
+    }
+
+    void reload(Set<Path> schemas) {
+        for (String name : getNames()) {
+            if (!schemas.contains(resolveSchema(directory, name))) {
+                continue;
+            }
+            try {
+                recompile(name);
+                log.info("Reloaded schema {}", name);
+            } catch (RuntimeException exception) {
+                log.warn("Cannot reload schema {}, keep the last good version", name, exception);
+            }
+        }
+    }
+
+    private static String readSchema(Path directory, String name) {
+        try {
+            return new String(Files.readAllBytes(resolveSchema(directory, name)), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read schema " + name, exception);
+        }
+    }
+
+    @SneakyThrows
+    private static WatchService createWatchService(Path directory) {
+        WatchService watchService = directory.getFileSystem().newWatchService();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isDirectory)
+                    .forEach(path -> register(watchService, path));
+        }
+        return watchService;
+    }
+
+    private static void register(WatchService watchService, Path path) {
+        try {
+            path.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot watch directory " + path, exception);
+        }
+    }
+
+    private Thread startWatcher() {
+        Thread thread = new Thread(this::watch, "json-data-schema-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    collectChanges(key, changed);
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                reload(changed);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException exception) {
+            log.debug("Schema watcher is closed");
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changed) {
+        Path parent = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                getNames().forEach(name -> changed.add(resolveSchema(directory, name)));
+                continue;
+            }
+            Path path = parent.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                register(watchService, path);
+            } else if (event.kind() != StandardWatchEventKinds.ENTRY_DELETE) {
+                changed.add(path);
+            }
+        }
+        key.reset();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        watcher.interrupt();
+        watchService.close();
+    }
+
+}
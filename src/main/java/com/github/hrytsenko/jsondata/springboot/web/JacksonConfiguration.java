@@ -24,53 +24,111 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.github.hrytsenko.jsondata.JsonEntity;
-import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Map;
 
-@Configuration
+@Configuration(proxyBeanMethods = false)
 class JacksonConfiguration {
 
     @Bean
-    public Jackson2ObjectMapperBuilderCustomizer jsonEntityJacksonCustomizer() {
-        SimpleModule module = new SimpleModule()
-                .setDeserializerModifier(new JsonEntityDeserializerModifier())
-                .setSerializerModifier(new JsonEntitySerializerModifier());
-        return builder -> builder.modulesToInstall(module)
+    @ConditionalOnProperty(prefix = "json-data.serialization", name = "module", matchIfMissing = true)
+    public Jackson2ObjectMapperBuilderCustomizer jsonEntityJacksonCustomizer(SerializationProperties serializationProperties) {
+        return builder -> builder.postConfigurer(mapper -> mapper.registerModule(createModule(serializationProperties)))
                 .featuresToEnable(DeserializationFeature.USE_LONG_FOR_INTS);
     }
 
-    @AllArgsConstructor
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.serialization", name = "converter", matchIfMissing = true)
+    public JsonEntityHttpMessageConverter jsonEntityHttpMessageConverter(ObjectMapper objectMapper,
+                                                                         SerializationProperties serializationProperties,
+                                                                         ValidationMemo validationMemo) {
+        return new JsonEntityHttpMessageConverter(objectMapper, serializationProperties, validationMemo);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.serialization", name = "patch", matchIfMissing = true)
+    public JsonPatchHttpMessageConverter jsonPatchHttpMessageConverter(ObjectMapper objectMapper) {
+        return new JsonPatchHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.serialization", name = "converter", matchIfMissing = true)
+    public SchemaGuidedRequestBodyAdvice schemaGuidedRequestBodyAdvice(ValidatorSource validatorSource,
+                                                                       SerializationProperties serializationProperties) {
+        return new SchemaGuidedRequestBodyAdvice(validatorSource, serializationProperties);
+    }
+
+    static SimpleModule createModule(SerializationProperties serializationProperties) {
+        JsonEntityReader reader = JsonEntityReader.isRequired(serializationProperties)
+                ? new JsonEntityReader(serializationProperties)
+                : null;
+        return new SimpleModule()
+                .setDeserializerModifier(new JsonEntityDeserializerModifier(reader))
+                .setSerializerModifier(new JsonEntitySerializerModifier())
+                .addSerializer(PrimitiveList.class, new PrimitiveListSerializer());
+    }
+
     static class JsonEntityDeserializer extends JsonDeserializer<JsonEntity<?>> {
 
+        private static final TypeReference<Map<String, ?>> MAP_TYPE = new TypeReference<Map<String, ?>>() {
+        };
+
         Class<?> entityClass;
+        JsonEntityReader reader;
+
+        JsonEntityDeserializer(Class<?> entityClass) {
+            this(entityClass, null);
+        }
+
+        JsonEntityDeserializer(Class<?> entityClass, JsonEntityReader reader) {
+            this.entityClass = entityClass;
+            this.reader = reader;
+        }
 
         @SneakyThrows
         @Override
         public JsonEntity<?> deserialize(JsonParser parser, DeserializationContext context) {
-            Map<String, ?> json = parser.readValueAs(new TypeReference<Map<String, ?>>() {
-            });
-            return new JsonEntity.Factory(entityClass).createFromMap(json);
+            long start = RequestTimings.begin(RequestTimings.Phase.PARSE);
+            try {
+                Map<String, ?> json = reader != null && JsonEntityReader.canRead(parser)
+                        ? reader.readObject(parser, context, (SchemaGuide) context.getAttribute(SchemaGuide.class))
+                        : parser.readValueAs(MAP_TYPE);
+                return new JsonEntity.Factory(entityClass).createFromMap(json);
+            } finally {
+                RequestTimings.end(RequestTimings.Phase.PARSE, start);
+            }
         }
 
     }
 
     static class JsonEntityDeserializerModifier extends BeanDeserializerModifier {
 
+        JsonEntityReader reader;
+
+        JsonEntityDeserializerModifier() {
+            this(null);
+        }
+
+        JsonEntityDeserializerModifier(JsonEntityReader reader) {
+            this.reader = reader;
+        }
+
         @Override
         public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription bean, JsonDeserializer<?> deserializer) {
             return bean.getType().isTypeOrSubTypeOf(JsonEntity.class)
-                    ? new JsonEntityDeserializer(bean.getType().getRawClass())
+                    ? new JsonEntityDeserializer(bean.getType().getRawClass(), reader)
                     : super.modifyDeserializer(config, bean, deserializer);
         }
 
@@ -86,6 +144,20 @@ class JacksonConfiguration {
 
     }
 
+    static class PrimitiveListSerializer extends JsonSerializer<PrimitiveList> {
+
+        @SneakyThrows
+        @Override
+        public void serialize(PrimitiveList value, JsonGenerator generator, SerializerProvider provider) {
+            if (value.getInflated() != null) {
+                provider.defaultSerializeValue(value.getInflated(), generator);
+            } else {
+                value.writeValues(generator);
+            }
+        }
+
+    }
+
     static class JsonEntitySerializerModifier extends BeanSerializerModifier {
 
         @Override
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.hrytsenko.jsondata.JsonEntity;
+import lombok.SneakyThrows;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class JsonEntityHttpMessageConverter extends AbstractHttpMessageConverter<JsonEntity<?>> {
+
+    ObjectMapper objectMapper;
+    ObjectWriter writer;
+    ConcurrentMap<Class<?>, ObjectReader> readers;
+    boolean etag;
+    boolean memo;
+
+    JsonEntityHttpMessageConverter(ObjectMapper objectMapper, SerializationProperties serializationProperties,
+                                   ValidationMemo validationMemo) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(Map.class);
+        this.readers = new ConcurrentHashMap<>();
+        this.etag = serializationProperties.isEtag();
+        this.memo = validationMemo.isEnabled();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonEntity.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected JsonEntity<?> readInternal(Class<? extends JsonEntity<?>> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        ObjectReader reader = readers.computeIfAbsent(clazz, objectMapper::readerFor);
+        if (inputMessage instanceof SchemaGuidedInputMessage) {
+            reader = reader.withAttribute(SchemaGuide.class, ((SchemaGuidedInputMessage) inputMessage).getGuide());
+        }
+        long start = RequestTimings.begin(RequestTimings.Phase.PARSE);
+        try {
+            if (!memo) {
+                return reader.readValue(inputMessage.getBody());
+            }
+
+            MessageDigest digest = createDigest("SHA-256");
+            JsonEntity<?> entity = reader.readValue(new DigestInputStream(inputMessage.getBody(), digest));
+            ValidationMemo.rememberDigest(entity, digest.digest());
+            return entity;
+        } catch (JsonProcessingException exception) {
+            throw new HttpMessageNotReadableException(
+                    "JSON parse error: " + exception.getOriginalMessage(), exception, inputMessage);
+        } finally {
+            RequestTimings.end(RequestTimings.Phase.PARSE, start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(JsonEntity<?> entity, HttpOutputMessage outputMessage) throws IOException {
+        boolean server = outputMessage instanceof ServerHttpResponse;
+        ServletWebRequest request = etag ? conditionalRequest(outputMessage) : null;
+        boolean serverTiming = server && RequestTimings.isHeaderEnabled();
+        if (request == null && !serverTiming) {
+            writeEntity(entity, outputMessage.getBody(), server);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        MessageDigest digest = request != null ? createDigest("MD5") : null;
+        writeEntity(entity, digest != null ? new DigestOutputStream(buffer, digest) : buffer, true);
+
+        if (request != null) {
+            String tag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+            if (request.checkNotModified(tag)) {
+                return;
+            }
+        }
+        if (serverTiming) {
+            outputMessage.getHeaders().set(RequestTimings.SERVER_TIMING, RequestTimings.getHeader());
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private void writeEntity(JsonEntity<?> entity, OutputStream body, boolean timed) throws IOException {
+        long start = timed ? RequestTimings.begin(RequestTimings.Phase.SERIALIZE) : 0;
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(body), JsonEncoding.UTF8)) {
+            writer.writeValue(generator, entity.asMap());
+        } finally {
+            RequestTimings.end(RequestTimings.Phase.SERIALIZE, start);
+        }
+    }
+
+    private static ServletWebRequest conditionalRequest(HttpOutputMessage outputMessage) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(outputMessage instanceof ServletServerHttpResponse)
+                || !(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        return method == HttpMethod.GET || method == HttpMethod.HEAD
+                ? new ServletWebRequest(request, ((ServletServerHttpResponse) outputMessage).getServletResponse())
+                : null;
+    }
+
+    @SneakyThrows
+    private static MessageDigest createDigest(String algorithm) {
+        return MessageDigest.getInstance(algorithm);
+    }
+
+}
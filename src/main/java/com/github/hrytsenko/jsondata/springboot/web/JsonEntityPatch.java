@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonEntity;
+import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.experimental.NonFinal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public abstract class JsonEntityPatch {
+
+    @NonFinal
+    @Setter(AccessLevel.PACKAGE)
+    Consumer<JsonEntity<?>> validation;
+
+    @SuppressWarnings("unchecked")
+    public <T extends JsonEntity<?>> T apply(T target) {
+        Map<String, Object> result = patch(copyObject(target.asMap()));
+        T entity = (T) new JsonEntity.Factory(target.getClass()).createFromMap(result);
+        if (validation != null) {
+            validation.accept(entity);
+        }
+        return entity;
+    }
+
+    abstract Map<String, Object> patch(Map<String, Object> target);
+
+    abstract Object toJson();
+
+    static ServiceException.BadRequest invalidPatch(String message) {
+        return new ServiceException.BadRequest("INVALID_PATCH", Collections.singletonList(message), null);
+    }
+
+    static Map<String, Object> copyObject(Map<String, ?> source) {
+        Map<String, Object> copy = new LinkedHashMap<>(Math.max(4, source.size() * 4 / 3 + 1));
+        source.forEach((key, value) -> copy.put(key, copy(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object copy(Object value) {
+        if (value instanceof Map) {
+            return copyObject((Map<String, ?>) value);
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) {
+                copy.add(copy(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class JsonEntityReader {
+
+    private static final int MIN_PRIMITIVE_CAPACITY = 16;
+
+    CanonicalTable table;
+    boolean canonicalValues;
+    int maxValueLength;
+    SchemaGuidance guidance;
+    boolean primitiveArrays;
+
+    JsonEntityReader(SerializationProperties properties) {
+        SerializationProperties.Canonical canonical = properties.getCanonical();
+        this.table = new CanonicalTable(canonical.getTableSize());
+        this.canonicalValues = canonical.isValues();
+        this.maxValueLength = canonical.getMaxValueLength();
+        this.guidance = properties.getSchemaGuidance();
+        this.primitiveArrays = properties.isPrimitiveArrays();
+    }
+
+    static boolean isRequired(SerializationProperties properties) {
+        SerializationProperties.Canonical canonical = properties.getCanonical();
+        return canonical.isValues()
+                || properties.getSchemaGuidance() != SchemaGuidance.DISABLED
+                || properties.isPrimitiveArrays();
+    }
+
+    static boolean canRead(JsonParser parser) {
+        return parser.hasToken(JsonToken.START_OBJECT) || parser.hasToken(JsonToken.FIELD_NAME);
+    }
+
+    Map<String, Object> readObject(JsonParser parser, DeserializationContext context) throws IOException {
+        return readObject(parser, context, null);
+    }
+
+    Map<String, Object> readObject(JsonParser parser, DeserializationContext context, SchemaGuide guide)
+            throws IOException {
+        if (guidance == SchemaGuidance.DISABLED) {
+            guide = null;
+        }
+
+        Map<String, Object> object = guide != null && guide.getCapacity() > 0
+                ? new LinkedHashMap<>(guide.getCapacity() * 4 / 3 + 1)
+                : new LinkedHashMap<>();
+        String name = parser.hasToken(JsonToken.FIELD_NAME) ? parser.currentName() : parser.nextFieldName();
+        for (; name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            if (guide != null && guide.isUnknown(name)) {
+                if (guidance == SchemaGuidance.SKIP_UNKNOWN) {
+                    parser.skipChildren();
+                    continue;
+                }
+                throw new ServiceException.BadRequest("INVALID_REQUEST",
+                        Collections.singletonList("Unknown field: " + name), null);
+            }
+            object.put(name,
+                    readValue(parser, context, guide != null ? guide.getProperty(name) : null));
+        }
+        return object;
+    }
+
+    private List<Object> readArray(JsonParser parser, DeserializationContext context, SchemaGuide guide)
+            throws IOException {
+        int capacity = guide != null ? guide.getCapacity() : 0;
+        SchemaGuide items = guide != null ? guide.getItems() : null;
+        JsonToken token = parser.nextToken();
+        if (primitiveArrays && token == JsonToken.VALUE_NUMBER_INT && isLongArray(parser, context)) {
+            return readLongArray(parser, context, items, capacity);
+        }
+        if (primitiveArrays && token == JsonToken.VALUE_NUMBER_FLOAT && isDoubleArray(context, items)) {
+            return readDoubleArray(parser, context, items, capacity);
+        }
+
+        List<Object> array = capacity > 0 ? new ArrayList<>(capacity) : new ArrayList<>();
+        return readRemaining(parser, context, items, array);
+    }
+
+    private List<Object> readLongArray(JsonParser parser, DeserializationContext context, SchemaGuide items,
+                                       int capacity) throws IOException {
+        long[] values = new long[Math.max(capacity, MIN_PRIMITIVE_CAPACITY)];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        for (; token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER;
+             token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getLongValue();
+        }
+
+        List<Object> array = new LongArrayList(size < values.length ? Arrays.copyOf(values, size) : values, size);
+        return token == JsonToken.END_ARRAY
+                ? array
+                : readRemaining(parser, context, items, new ArrayList<>(array));
+    }
+
+    private List<Object> readDoubleArray(JsonParser parser, DeserializationContext context, SchemaGuide items,
+                                         int capacity) throws IOException {
+        double[] values = new double[Math.max(capacity, MIN_PRIMITIVE_CAPACITY)];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        for (; token == JsonToken.VALUE_NUMBER_FLOAT; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getDoubleValue();
+        }
+
+        List<Object> array = new DoubleArrayList(size < values.length ? Arrays.copyOf(values, size) : values, size);
+        return token == JsonToken.END_ARRAY
+                ? array
+                : readRemaining(parser, context, items, new ArrayList<>(array));
+    }
+
+    private List<Object> readRemaining(JsonParser parser, DeserializationContext context, SchemaGuide items,
+                                       List<Object> array) throws IOException {
+        for (JsonToken token = parser.currentToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            array.add(readValue(parser, context, items));
+        }
+        return array;
+    }
+
+    private static boolean isLongArray(JsonParser parser, DeserializationContext context) throws IOException {
+        return isEnabled(context, DeserializationFeature.USE_LONG_FOR_INTS)
+                && !isEnabled(context, DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER;
+    }
+
+    private static boolean isDoubleArray(DeserializationContext context, SchemaGuide items) {
+        return !isEnabled(context, DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                && (items == null || !"integer".equals(items.getType()));
+    }
+
+    private Object readValue(JsonParser parser, DeserializationContext context, SchemaGuide guide)
+            throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                return readObject(parser, context, guide);
+            case START_ARRAY:
+                return readArray(parser, context, guide);
+            case VALUE_STRING:
+                return readString(parser);
+            case VALUE_NUMBER_INT:
+                return readInteger(parser, context);
+            case VALUE_NUMBER_FLOAT:
+                if (guide != null && "integer".equals(guide.getType())) {
+                    return readIntegral(parser, context);
+                }
+                return isEnabled(context, DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                        ? parser.getDecimalValue()
+                        : parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            default:
+                throw new JsonParseException(parser, "Unexpected token " + parser.currentToken());
+        }
+    }
+
+    private String readString(JsonParser parser) throws IOException {
+        String value = parser.getText();
+        return canonicalValues && value.length() <= maxValueLength
+                ? table.canonicalize(value)
+                : value;
+    }
+
+    private static Object readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        if (isEnabled(context, DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+            return parser.getBigIntegerValue();
+        }
+
+        JsonParser.NumberType type = parser.getNumberType();
+        if (type == JsonParser.NumberType.BIG_INTEGER) {
+            return parser.getBigIntegerValue();
+        }
+        if (type == JsonParser.NumberType.LONG || isEnabled(context, DeserializationFeature.USE_LONG_FOR_INTS)) {
+            return parser.getLongValue();
+        }
+        return parser.getIntValue();
+    }
+
+    private static Object readIntegral(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        boolean integral = value.signum() == 0
+                || value.precision() - value.scale() <= 18 && value.stripTrailingZeros().scale() <= 0;
+        if (!integral) {
+            return isEnabled(context, DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    ? value
+                    : parser.getNumberValue();
+        }
+
+        long longValue = value.longValueExact();
+        if (isEnabled(context, DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+            return BigInteger.valueOf(longValue);
+        }
+        return isEnabled(context, DeserializationFeature.USE_LONG_FOR_INTS) || (int) longValue != longValue
+                ? (Object) longValue
+                : (Object) (int) longValue;
+    }
+
+    private static boolean isEnabled(DeserializationContext context, DeserializationFeature feature) {
+        return context != null && context.isEnabled(feature);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonEntity;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class JsonMergePatch extends JsonEntityPatch {
+
+    Map<String, Object> patch;
+
+    public JsonMergePatch(Map<String, ?> patch) {
+        this.patch = copyObject(patch);
+    }
+
+    public static JsonMergePatch diff(JsonEntity<?> source, JsonEntity<?> target) {
+        return new JsonMergePatch(diffObject(source.asMap(), target.asMap()));
+    }
+
+    public Map<String, Object> asMap() {
+        return Collections.unmodifiableMap(patch);
+    }
+
+    public boolean isEmpty() {
+        return patch.isEmpty();
+    }
+
+    @Override
+    Map<String, Object> patch(Map<String, Object> target) {
+        return mergeObject(target, patch);
+    }
+
+    @Override
+    Object toJson() {
+        return patch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mergeObject(Map<String, Object> target, Map<String, ?> patch) {
+        for (Map.Entry<String, ?> field : patch.entrySet()) {
+            Object value = field.getValue();
+            if (value == null) {
+                target.remove(field.getKey());
+            } else if (value instanceof Map) {
+                Object current = target.get(field.getKey());
+                target.put(field.getKey(), mergeObject(
+                        current instanceof Map ? (Map<String, Object>) current : new LinkedHashMap<>(),
+                        (Map<String, ?>) value));
+            } else {
+                target.put(field.getKey(), copy(value));
+            }
+        }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> diffObject(Map<String, ?> source, Map<String, ?> target) {
+        Map<String, Object> diff = new LinkedHashMap<>();
+        for (String key : source.keySet()) {
+            if (!target.containsKey(key) || target.get(key) == null && source.get(key) != null) {
+                diff.put(key, null);
+            }
+        }
+        for (Map.Entry<String, ?> field : target.entrySet()) {
+            Object sourceValue = source.get(field.getKey());
+            Object targetValue = field.getValue();
+            if (targetValue == null || Objects.equals(sourceValue, targetValue)) {
+                continue;
+            }
+            if (sourceValue instanceof Map && targetValue instanceof Map) {
+                Map<String, Object> nested = diffObject((Map<String, ?>) sourceValue, (Map<String, ?>) targetValue);
+                if (!nested.isEmpty()) {
+                    diff.put(field.getKey(), nested);
+                }
+            } else {
+                diff.put(field.getKey(), copy(targetValue));
+            }
+        }
+        return diff;
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class JsonPatch extends JsonEntityPatch {
+
+    List<Operation> operations;
+
+    public JsonPatch(List<? extends Map<String, ?>> operations) {
+        this.operations = new ArrayList<>(operations.size());
+        for (Map<String, ?> operation : operations) {
+            this.operations.add(new Operation(operation));
+        }
+    }
+
+    public List<Map<String, Object>> asList() {
+        return Collections.unmodifiableList(toJson());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Map<String, Object> patch(Map<String, Object> target) {
+        Object document = target;
+        for (Operation operation : operations) {
+            document = operation.apply(document);
+        }
+        if (!(document instanceof Map)) {
+            throw invalidPatch("Patched document is not an object");
+        }
+        return (Map<String, Object>) document;
+    }
+
+    @Override
+    List<Map<String, Object>> toJson() {
+        List<Map<String, Object>> json = new ArrayList<>(operations.size());
+        for (Operation operation : operations) {
+            json.add(operation.toJson());
+        }
+        return json;
+    }
+
+    static class Operation {
+
+        private static final List<String> OPERATIONS = Arrays.asList("add", "remove", "replace", "move", "copy", "test");
+
+        String op;
+        String path;
+        String from;
+        Object value;
+
+        Operation(Map<String, ?> operation) {
+            Object op = operation.get("op");
+            if (!OPERATIONS.contains(op)) {
+                throw invalidPatch("Unknown operation: " + op);
+            }
+            this.op = (String) op;
+            this.path = readPointer(operation, "path");
+            if ("move".equals(op) || "copy".equals(op)) {
+                this.from = readPointer(operation, "from");
+            }
+            if ("add".equals(op) || "replace".equals(op) || "test".equals(op)) {
+                if (!operation.containsKey("value")) {
+                    throw invalidPatch("Missing value for " + op + " at " + path);
+                }
+                this.value = copy(operation.get("value"));
+            }
+            if ("move".equals(op) && (path + "/").startsWith(from + "/") && !path.equals(from)) {
+                throw invalidPatch("Cannot move " + from + " into its child " + path);
+            }
+        }
+
+        Object apply(Object document) {
+            switch (op) {
+                case "add":
+                    return add(document, parse(path), copy(value));
+                case "remove":
+                    remove(document, parse(path));
+                    return document;
+                case "replace":
+                    List<String> tokens = parse(path);
+                    get(document, tokens);
+                    if (tokens.isEmpty()) {
+                        return copy(value);
+                    }
+                    remove(document, tokens);
+                    return add(document, tokens, copy(value));
+                case "move":
+                    Object moved = remove(document, parse(from));
+                    return add(document, parse(path), moved);
+                case "copy":
+                    return add(document, parse(path), copy(get(document, parse(from))));
+                default:
+                    if (!jsonEquals(get(document, parse(path)), value)) {
+                        throw invalidPatch("Test failed at " + path);
+                    }
+                    return document;
+            }
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("op", op);
+            if (from != null) {
+                json.put("from", from);
+            }
+            json.put("path", path);
+            if ("add".equals(op) || "replace".equals(op) || "test".equals(op)) {
+                json.put("value", copy(value));
+            }
+            return json;
+        }
+
+        private static String readPointer(Map<String, ?> operation, String name) {
+            Object pointer = operation.get(name);
+            if (!(pointer instanceof String)) {
+                throw invalidPatch("Missing " + name + " for " + operation.get("op"));
+            }
+            parse((String) pointer);
+            return (String) pointer;
+        }
+
+    }
+
+    static List<String> parse(String pointer) {
+        if (pointer.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw invalidPatch("Invalid pointer: " + pointer);
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : pointer.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object get(Object document, List<String> tokens) {
+        Object node = document;
+        for (String token : tokens) {
+            if (node instanceof Map && ((Map<String, Object>) node).containsKey(token)) {
+                node = ((Map<String, Object>) node).get(token);
+            } else if (node instanceof List) {
+                List<Object> items = (List<Object>) node;
+                node = items.get(index(items, token, false));
+            } else {
+                throw invalidPatch("Path not found: " + toPointer(tokens));
+            }
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object add(Object document, List<String> tokens, Object value) {
+        if (tokens.isEmpty()) {
+            return value;
+        }
+        Object parent = get(document, tokens.subList(0, tokens.size() - 1));
+        String token = tokens.get(tokens.size() - 1);
+        if (parent instanceof Map) {
+            ((Map<String, Object>) parent).put(token, value);
+        } else if (parent instanceof List) {
+            List<Object> items = (List<Object>) parent;
+            items.add(index(items, token, true), value);
+        } else {
+            throw invalidPatch("Path not found: " + toPointer(tokens));
+        }
+        return document;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object remove(Object document, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            throw invalidPatch("Cannot remove the document");
+        }
+        Object parent = get(document, tokens.subList(0, tokens.size() - 1));
+        String token = tokens.get(tokens.size() - 1);
+        if (parent instanceof Map && ((Map<String, Object>) parent).containsKey(token)) {
+            return ((Map<String, Object>) parent).remove(token);
+        }
+        if (parent instanceof List) {
+            List<Object> items = (List<Object>) parent;
+            return items.remove(index(items, token, false));
+        }
+        throw invalidPatch("Path not found: " + toPointer(tokens));
+    }
+
+    private static int index(List<?> items, String token, boolean append) {
+        if (append && "-".equals(token)) {
+            return items.size();
+        }
+        int size = append ? items.size() + 1 : items.size();
+        if (token.isEmpty() || token.length() > 9 || token.length() > 1 && token.charAt(0) == '0'
+                || !token.chars().allMatch(Character::isDigit) || Integer.parseInt(token) >= size) {
+            throw invalidPatch("Invalid array index: " + token);
+        }
+        return Integer.parseInt(token);
+    }
+
+    private static String toPointer(List<String> tokens) {
+        StringBuilder pointer = new StringBuilder();
+        for (String token : tokens) {
+            pointer.append('/').append(token.replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean jsonEquals(Object actual, Object expected) {
+        if (actual instanceof Number && expected instanceof Number) {
+            return new BigDecimal(actual.toString()).compareTo(new BigDecimal(expected.toString())) == 0;
+        }
+        if (actual instanceof Map && expected instanceof Map) {
+            Map<String, Object> actualMap = (Map<String, Object>) actual;
+            Map<String, Object> expectedMap = (Map<String, Object>) expected;
+            return actualMap.keySet().equals(expectedMap.keySet())
+                    && actualMap.keySet().stream().allMatch(key -> jsonEquals(actualMap.get(key), expectedMap.get(key)));
+        }
+        if (actual instanceof List && expected instanceof List) {
+            List<?> actualList = (List<?>) actual;
+            List<?> expectedList = (List<?>) expected;
+            if (actualList.size() != expectedList.size()) {
+                return false;
+            }
+            for (int index = 0; index < actualList.size(); index++) {
+                if (!jsonEquals(actualList.get(index), expectedList.get(index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(actual, expected);
+    }
+
+}
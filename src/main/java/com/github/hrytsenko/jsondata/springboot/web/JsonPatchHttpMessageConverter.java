@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class JsonPatchHttpMessageConverter extends AbstractHttpMessageConverter<JsonEntityPatch> {
+
+    static final MediaType MERGE_PATCH = MediaType.valueOf("application/merge-patch+json");
+    static final MediaType JSON_PATCH = MediaType.valueOf("application/json-patch+json");
+
+    ObjectMapper objectMapper;
+
+    JsonPatchHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MERGE_PATCH, JSON_PATCH);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonMergePatch.class.isAssignableFrom(clazz) || JsonPatch.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return supports(clazz) && (mediaType == null || mediaTypeFor(clazz).includes(mediaType));
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return supports(clazz) && (mediaType == null || mediaType.isCompatibleWith(mediaTypeFor(clazz)));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz)
+                ? Collections.singletonList(mediaTypeFor(clazz))
+                : Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected JsonEntityPatch readInternal(Class<? extends JsonEntityPatch> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        Object patch;
+        try {
+            patch = objectMapper.readValue(inputMessage.getBody(), Object.class);
+        } catch (JsonProcessingException exception) {
+            throw new HttpMessageNotReadableException(
+                    "JSON parse error: " + exception.getOriginalMessage(), exception, inputMessage);
+        }
+
+        if (JsonMergePatch.class.isAssignableFrom(clazz)) {
+            if (!(patch instanceof Map)) {
+                throw new HttpMessageNotReadableException("Merge patch is not an object", inputMessage);
+            }
+            return new JsonMergePatch((Map<String, ?>) patch);
+        }
+
+        if (!(patch instanceof List) || !((List<?>) patch).stream().allMatch(Map.class::isInstance)) {
+            throw new HttpMessageNotReadableException("JSON patch is not an array of operations", inputMessage);
+        }
+        return new JsonPatch((List<Map<String, ?>>) patch);
+    }
+
+    @Override
+    protected void writeInternal(JsonEntityPatch patch, HttpOutputMessage outputMessage) throws IOException {
+        objectMapper.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), patch.toJson());
+    }
+
+    @Override
+    protected MediaType getDefaultContentType(JsonEntityPatch patch) {
+        return mediaTypeFor(patch.getClass());
+    }
+
+    private static MediaType mediaTypeFor(Class<?> clazz) {
+        return JsonMergePatch.class.isAssignableFrom(clazz) ? MERGE_PATCH : JSON_PATCH;
+    }
+
+}
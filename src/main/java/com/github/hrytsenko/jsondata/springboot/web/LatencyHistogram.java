@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        buckets.incrementAndGet(index(nanos));
+    }
+
+    long getPercentile(double percentile) {
+        long total = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            total += buckets.get(index);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile * total));
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            count += buckets.get(index);
+            if (count >= target) {
+                return upperBound(index);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(0, value);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int fraction = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + fraction;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS;
+        int fraction = index % SUB_BUCKETS;
+        return exponent >= 61
+                ? Long.MAX_VALUE
+                : ((SUB_BUCKETS + fraction + 1L) << (exponent - 2)) - 1;
+    }
+
+}
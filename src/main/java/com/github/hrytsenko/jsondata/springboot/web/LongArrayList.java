@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.Getter;
+import lombok.experimental.NonFinal;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+class LongArrayList extends PrimitiveList {
+
+    @NonFinal
+    @Getter
+    long[] values;
+
+    LongArrayList(long[] values, int size) {
+        super(size);
+        this.values = values;
+    }
+
+    @Override
+    boolean accepts(Object value) {
+        return value instanceof Long;
+    }
+
+    @Override
+    Object getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    void setValue(int index, Object value) {
+        values[index] = (Long) value;
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+
+    @Override
+    void moveValues(int from, int to, int length) {
+        System.arraycopy(values, from, values, to, length);
+    }
+
+    @Override
+    void releaseValues() {
+        values = null;
+    }
+
+    @Override
+    void writeValues(JsonGenerator generator) throws IOException {
+        generator.writeArray(values, 0, size());
+    }
+
+}
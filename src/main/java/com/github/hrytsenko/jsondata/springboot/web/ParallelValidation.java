@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonEntity;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import com.github.hrytsenko.jsondata.JsonValidatorException;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ParallelValidation implements DisposableBean {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+    private static final List<String> DEFINITIONS = Arrays.asList("definitions", "$defs");
+    private static final List<String> ITEM_KEYWORDS = Arrays.asList("additionalItems", "unevaluatedItems");
+
+    ValidationProperties.Parallel properties;
+    ValidatorSource validatorSource;
+    ForkJoinPool pool;
+    ConcurrentMap<String, Map.Entry<Map<String, ?>, Plan>> plans;
+
+    ParallelValidation(ValidationProperties validationProperties, ValidatorSource validatorSource) {
+        this.properties = validationProperties.getParallel();
+        this.validatorSource = validatorSource;
+        this.pool = properties.isEnabled() && validatorSource instanceof CachingValidatorSource
+                ? createPool(properties.getParallelism())
+                : null;
+        this.plans = new ConcurrentHashMap<>();
+    }
+
+    boolean isEnabled() {
+        return pool != null;
+    }
+
+    List<String> validate(JsonEntity<?> entity, String schema, int limit) {
+        Map<String, ?> source = entity.asMap();
+        Plan plan = getPlan(schema);
+
+        List<String> arrays = new ArrayList<>();
+        for (Map.Entry<String, ?> field : source.entrySet()) {
+            if (plan.items.containsKey(field.getKey()) && isLargeArray(field.getValue())) {
+                arrays.add(field.getKey());
+            }
+        }
+
+        if (arrays.isEmpty()) {
+            validatorSource.getValidator(schema).validate(entity);
+            return Collections.emptyList();
+        }
+
+        plan.shell.validate(entity);
+
+        List<String> violations = new ArrayList<>();
+        for (String array : arrays) {
+            violations.addAll(validateItems(array, (List<?>) source.get(array), plan.items.get(array),
+                    limit - violations.size()));
+            if (violations.size() >= limit) {
+                break;
+            }
+        }
+        return violations;
+    }
+
+    Plan getPlan(String name) {
+        Map<String, ?> schema = ((CachingValidatorSource) validatorSource).getSchema(name);
+        Map.Entry<Map<String, ?>, Plan> plan = plans.get(name);
+        if (plan == null || plan.getKey() != schema) {
+            plan = new AbstractMap.SimpleImmutableEntry<>(schema, createPlan(schema));
+            plans.put(name, plan);
+        }
+        return plan.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Plan createPlan(Map<String, ?> schema) {
+        Object properties = schema.get("properties");
+        if (!(properties instanceof Map) || !hasOnlyDefinitionReferences(schema)) {
+            return new Plan(null, Collections.emptyMap());
+        }
+
+        Map<String, Object> shellProperties = new LinkedHashMap<>((Map<String, ?>) properties);
+        Map<String, JsonValidator> items = new LinkedHashMap<>();
+        for (Map.Entry<String, ?> property : ((Map<String, ?>) properties).entrySet()) {
+            Map<String, ?> resolved = property.getValue() instanceof Map
+                    ? SchemaGuide.resolve((Map<String, ?>) property.getValue(), schema)
+                    : null;
+            if (resolved == null || !(resolved.get("items") instanceof Map)
+                    || ITEM_KEYWORDS.stream().anyMatch(resolved::containsKey)) {
+                continue;
+            }
+
+            Map<String, Object> arraySchema = new LinkedHashMap<>(resolved);
+            arraySchema.remove("items");
+            shellProperties.put(property.getKey(), arraySchema);
+            items.put(property.getKey(), createValidator(itemSchema(schema, (Map<String, ?>) resolved.get("items"))));
+        }
+        if (items.isEmpty()) {
+            return new Plan(null, Collections.emptyMap());
+        }
+
+        Map<String, Object> shell = new LinkedHashMap<>(schema);
+        shell.put("properties", shellProperties);
+        return new Plan(createValidator(shell), items);
+    }
+
+    private static Map<String, Object> itemSchema(Map<String, ?> schema, Map<String, ?> items) {
+        Map<String, Object> itemSchema = new LinkedHashMap<>();
+        if (schema.containsKey("$schema")) {
+            itemSchema.put("$schema", schema.get("$schema"));
+        }
+        for (String definitions : DEFINITIONS) {
+            if (schema.containsKey(definitions)) {
+                itemSchema.put(definitions, schema.get(definitions));
+            }
+        }
+        itemSchema.put("allOf", Collections.singletonList(items));
+        return itemSchema;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean hasOnlyDefinitionReferences(Object node) {
+        if (node instanceof Map) {
+            for (Map.Entry<String, ?> field : ((Map<String, ?>) node).entrySet()) {
+                if ("$ref".equals(field.getKey()) && field.getValue() instanceof String
+                        ? !isDefinitionReference((String) field.getValue())
+                        : !hasOnlyDefinitionReferences(field.getValue())) {
+                    return false;
+                }
+            }
+        } else if (node instanceof List) {
+            for (Object item : (List<?>) node) {
+                if (!hasOnlyDefinitionReferences(item)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDefinitionReference(String reference) {
+        return DEFINITIONS.stream().anyMatch(definitions -> reference.startsWith("#/" + definitions + "/"));
+    }
+
+    @SneakyThrows
+    private static JsonValidator createValidator(Map<String, ?> schema) {
+        return JsonValidator.create(SCHEMA_MAPPER.writeValueAsString(schema));
+    }
+
+    private boolean isLargeArray(Object value) {
+        if (!(value instanceof List) || ((List<?>) value).size() < properties.getThreshold()) {
+            return false;
+        }
+        for (Object item : (List<?>) value) {
+            if (!(item instanceof Map)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SneakyThrows
+    private List<String> validateItems(String array, List<?> items, JsonValidator validator, int limit) {
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(1, (items.size() + chunks - 1) / chunks);
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        String base = "#/" + array.replace("~", "~0").replace("/", "~1");
+
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(items.size(), start + chunkSize);
+            tasks.add(() -> validateChunk(base, items, from, to, validator, limit, firstFailure));
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (Future<List<String>> result : pool.invokeAll(tasks)) {
+            try {
+                violations.addAll(result.get());
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+        return violations.size() > limit
+                ? new ArrayList<>(violations.subList(0, limit))
+                : violations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> validateChunk(String base, List<?> items, int from, int to,
+                                              JsonValidator validator, int limit, AtomicInteger firstFailure) {
+        JsonEntity.Factory factory = new JsonEntity.Factory(JsonBean.class);
+        Set<String> violations = new LinkedHashSet<>();
+        for (int index = from; index < to && violations.size() < limit; index++) {
+            if (limit == 1 && index > firstFailure.get()) {
+                break;
+            }
+            try {
+                validator.validate(factory.createFromMap((Map<String, ?>) items.get(index)));
+            } catch (JsonValidatorException exception) {
+                Violations.collect(exception, base + "/" + index, violations, limit);
+                firstFailure.accumulateAndGet(index, Math::min);
+            }
+        }
+        return new ArrayList<>(violations);
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("json-data-validation-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @AllArgsConstructor
+    static class Plan {
+
+        JsonValidator shell;
+        Map<String, JsonValidator> items;
+
+    }
+
+}
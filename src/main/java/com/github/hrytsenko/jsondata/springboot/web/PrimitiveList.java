@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.Getter;
+import lombok.experimental.NonFinal;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+abstract class PrimitiveList extends AbstractList<Object> implements RandomAccess {
+
+    @NonFinal
+    int size;
+    @NonFinal
+    @Getter
+    List<Object> inflated;
+
+    PrimitiveList(int size) {
+        this.size = size;
+    }
+
+    abstract boolean accepts(Object value);
+
+    abstract Object getValue(int index);
+
+    abstract void setValue(int index, Object value);
+
+    abstract void ensureCapacity(int capacity);
+
+    abstract void moveValues(int from, int to, int length);
+
+    abstract void releaseValues();
+
+    abstract void writeValues(JsonGenerator generator) throws IOException;
+
+    @Override
+    public Object get(int index) {
+        if (inflated != null) {
+            return inflated.get(index);
+        }
+        checkIndex(index, size);
+        return getValue(index);
+    }
+
+    @Override
+    public int size() {
+        return inflated != null ? inflated.size() : size;
+    }
+
+    @Override
+    public Object set(int index, Object value) {
+        if (inflated != null || !accepts(value)) {
+            return inflate().set(index, value);
+        }
+        checkIndex(index, size);
+        Object previous = getValue(index);
+        setValue(index, value);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Object value) {
+        modCount++;
+        if (inflated != null || !accepts(value)) {
+            inflate().add(index, value);
+            return;
+        }
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        moveValues(index, index + 1, size - index);
+        setValue(index, value);
+        size++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        modCount++;
+        if (inflated != null) {
+            return inflated.remove(index);
+        }
+        checkIndex(index, size);
+        Object previous = getValue(index);
+        moveValues(index + 1, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        if (inflated != null) {
+            inflated.clear();
+        }
+        size = 0;
+    }
+
+    private List<Object> inflate() {
+        if (inflated == null) {
+            List<Object> values = new ArrayList<>(size + 1);
+            for (int index = 0; index < size; index++) {
+                values.add(getValue(index));
+            }
+            inflated = values;
+            releaseValues();
+        }
+        return inflated;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
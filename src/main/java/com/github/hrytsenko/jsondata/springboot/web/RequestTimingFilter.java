@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.AllArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+@AllArgsConstructor
+class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final String TIMINGS_ATTRIBUTE = RequestTimingFilter.class.getName() + ".TIMINGS";
+
+    boolean serverTiming;
+    List<RequestTimingsListener> listeners;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Object started = request.getAttribute(TIMINGS_ATTRIBUTE);
+        RequestTimings timings = started instanceof RequestTimings
+                ? RequestTimings.resume((RequestTimings) started)
+                : RequestTimings.start(serverTiming);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTimings.stop();
+            if (request.isAsyncStarted()) {
+                request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            } else {
+                request.removeAttribute(TIMINGS_ATTRIBUTE);
+                finish(timings, response);
+            }
+        }
+    }
+
+    private void finish(RequestTimings timings, HttpServletResponse response) {
+        timings.finish();
+        if (serverTiming && !response.isCommitted() && !response.containsHeader(RequestTimings.SERVER_TIMING)) {
+            response.setHeader(RequestTimings.SERVER_TIMING, timings.toHeader());
+        }
+        for (RequestTimingsListener listener : listeners) {
+            listener.onTimings(timings);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.NonFinal;
+
+import java.util.Locale;
+
+public final class RequestTimings {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    boolean header;
+    long started;
+    long[] nanos;
+    @NonFinal
+    int recorded;
+    @NonFinal
+    int open;
+
+    private RequestTimings(boolean header) {
+        this.header = header;
+        this.started = System.nanoTime();
+        this.nanos = new long[Phase.values().length];
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public boolean isRecorded(Phase phase) {
+        return (recorded & phase.bit()) != 0;
+    }
+
+    public String toHeader() {
+        StringBuilder value = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (isRecorded(phase)) {
+                if (value.length() > 0) {
+                    value.append(", ");
+                }
+                value.append(phase.getName())
+                        .append(";dur=")
+                        .append(String.format(Locale.ROOT, "%.3f", getNanos(phase) / 1e6));
+            }
+        }
+        return value.toString();
+    }
+
+    static RequestTimings start(boolean header) {
+        RequestTimings timings = new RequestTimings(header);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static RequestTimings resume(RequestTimings timings) {
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static boolean isHeaderEnabled() {
+        RequestTimings timings = CURRENT.get();
+        return timings != null && timings.header;
+    }
+
+    static String getHeader() {
+        RequestTimings timings = CURRENT.get();
+        return timings != null ? timings.toHeader() : null;
+    }
+
+    static long begin(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null || (timings.open & phase.bit()) != 0) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        if (phase.ordinal() > Phase.HANDLER.ordinal()) {
+            timings.closeHandler(now);
+        }
+        timings.open |= phase.bit();
+        return now;
+    }
+
+    static void end(Phase phase, long start) {
+        RequestTimings timings = start != 0 ? CURRENT.get() : null;
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - start);
+            timings.open &= ~phase.bit();
+        }
+    }
+
+    void finish() {
+        closeHandler(System.nanoTime());
+    }
+
+    private void closeHandler(long now) {
+        if (!isRecorded(Phase.HANDLER)) {
+            add(Phase.HANDLER, Math.max(0, now - started
+                    - getNanos(Phase.PARSE) - getNanos(Phase.VALIDATE_REQUEST)));
+        }
+    }
+
+    private void add(Phase phase, long elapsed) {
+        nanos[phase.ordinal()] += elapsed;
+        recorded |= phase.bit();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Phase {
+
+        PARSE("parse"),
+        VALIDATE_REQUEST("validate-request"),
+        HANDLER("handler"),
+        VALIDATE_RESPONSE("validate-response"),
+        SERIALIZE("serialize");
+
+        String name;
+
+        int bit() {
+            return 1 << ordinal();
+        }
+
+    }
+
+}
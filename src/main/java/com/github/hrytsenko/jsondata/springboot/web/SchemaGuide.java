@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.Getter;
+import lombok.experimental.NonFinal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+@Getter
+class SchemaGuide {
+
+    private static final int MAX_CAPACITY = 256;
+
+    @NonFinal
+    Map<String, SchemaGuide> properties;
+    @NonFinal
+    boolean closed;
+    @NonFinal
+    SchemaGuide items;
+    @NonFinal
+    String type;
+    @NonFinal
+    int capacity;
+
+    private SchemaGuide() {
+        this.properties = Collections.emptyMap();
+    }
+
+    static SchemaGuide create(Map<String, ?> schema) {
+        return create(schema, schema, new IdentityHashMap<>());
+    }
+
+    SchemaGuide getProperty(String name) {
+        return properties.get(name);
+    }
+
+    boolean isUnknown(String name) {
+        return closed && !properties.containsKey(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SchemaGuide create(Map<String, ?> schema, Map<String, ?> root,
+                                      Map<Map<String, ?>, SchemaGuide> guides) {
+        Map<String, ?> resolved = resolve(schema, root);
+        SchemaGuide guide = guides.get(resolved);
+        if (guide != null) {
+            return guide;
+        }
+        guide = new SchemaGuide();
+        guides.put(resolved, guide);
+        if (resolved == null || isComposite(resolved)) {
+            return guide;
+        }
+
+        Object type = resolved.get("type");
+        guide.type = type instanceof String ? (String) type : null;
+
+        Object properties = resolved.get("properties");
+        if (properties instanceof Map) {
+            Map<String, SchemaGuide> propertyGuides = new HashMap<>();
+            for (Map.Entry<String, ?> property : ((Map<String, ?>) properties).entrySet()) {
+                propertyGuides.put(property.getKey(), property.getValue() instanceof Map
+                        ? create((Map<String, ?>) property.getValue(), root, guides)
+                        : new SchemaGuide());
+            }
+            Object additionalProperties = resolved.get("additionalProperties");
+            guide.properties = propertyGuides;
+            guide.closed = !resolved.containsKey("patternProperties") && Boolean.FALSE.equals(additionalProperties);
+            guide.capacity = Math.min(MAX_CAPACITY, propertyGuides.size());
+        }
+
+        Object items = resolved.get("items");
+        if (items instanceof Map) {
+            guide.items = create((Map<String, ?>) items, root, guides);
+            Object minItems = resolved.get("minItems");
+            guide.capacity = minItems instanceof Number
+                    ? (int) Math.min(MAX_CAPACITY, Math.max(0, ((Number) minItems).longValue()))
+                    : 0;
+        }
+        return guide;
+    }
+
+    private static boolean isComposite(Map<String, ?> schema) {
+        return schema.containsKey("allOf") || schema.containsKey("anyOf") || schema.containsKey("oneOf")
+                || schema.containsKey("not") || schema.containsKey("if") || schema.containsKey("dependencies");
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, ?> resolve(Map<String, ?> schema, Map<String, ?> root) {
+        Map<String, ?> resolved = schema;
+        for (int depth = 0; resolved != null && resolved.get("$ref") instanceof String; depth++) {
+            String reference = (String) resolved.get("$ref");
+            if (depth > 16 || !reference.equals("#") && !reference.startsWith("#/")) {
+                return null;
+            }
+            Object target = root;
+            for (String token : JsonPatch.parse(reference.substring(1))) {
+                target = target instanceof Map ? ((Map<String, ?>) target).get(token) : null;
+            }
+            resolved = target instanceof Map ? (Map<String, ?>) target : null;
+        }
+        return resolved;
+    }
+
+}
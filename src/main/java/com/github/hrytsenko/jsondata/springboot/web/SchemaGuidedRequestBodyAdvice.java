@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonEntity;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@ControllerAdvice
+class SchemaGuidedRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    ValidatorSource validatorSource;
+    boolean enabled;
+    ConcurrentMap<String, Map.Entry<Map<String, ?>, SchemaGuide>> guides;
+
+    SchemaGuidedRequestBodyAdvice(ValidatorSource validatorSource, SerializationProperties serializationProperties) {
+        this.validatorSource = validatorSource;
+        this.enabled = serializationProperties.getSchemaGuidance() != SchemaGuidance.DISABLED
+                && validatorSource instanceof CachingValidatorSource;
+        this.guides = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean supports(MethodParameter parameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled
+                && JsonEntityHttpMessageConverter.class.isAssignableFrom(converterType)
+                && JsonEntity.class.isAssignableFrom(parameter.getParameterType())
+                && parameter.getParameterIndex() == 0
+                && parameter.hasMethodAnnotation(ValidateRequest.class);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+                                           Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        ValidateRequest config = parameter.getMethodAnnotation(ValidateRequest.class);
+        return new SchemaGuidedInputMessage(inputMessage, getGuide(config.value()));
+    }
+
+    SchemaGuide getGuide(String name) {
+        Map<String, ?> schema = ((CachingValidatorSource) validatorSource).getSchema(name);
+        Map.Entry<Map<String, ?>, SchemaGuide> guide = guides.get(name);
+        if (guide == null || guide.getKey() != schema) {
+            guide = new AbstractMap.SimpleImmutableEntry<>(schema, SchemaGuide.create(schema));
+            guides.put(name, guide);
+        }
+        return guide.getValue();
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class SchemaRegistry extends CachingValidatorSource {
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final String DEFINITIONS = "definitions";
+
+    ConcurrentMap<String, Map<String, ?>> resources;
+    ConcurrentMap<String, Set<String>> dependencies;
+    ConcurrentMap<String, CompiledSchema> compiled;
+
+    public SchemaRegistry(Function<String, String> schemaLoader, ValidatorStatistics statistics) {
+        super(schemaLoader, statistics);
+        this.resources = new ConcurrentHashMap<>();
+        this.dependencies = new ConcurrentHashMap<>();
+        this.compiled = new ConcurrentHashMap<>();
+    }
+
+    public int getCompiledCount() {
+        return compiled.size();
+    }
+
+    public long getTotalMemory() {
+        return compiled.values().stream()
+                .mapToLong(schema -> Math.max(0, schema.memory))
+                .sum();
+    }
+
+    @Override
+    public boolean contains(String name) {
+        return super.contains(name) || !getDependents(name).isEmpty();
+    }
+
+    @Override
+    public boolean evict(String name) {
+        resources.remove(name);
+        boolean evicted = super.evict(name);
+        for (String dependent : getDependents(name)) {
+            evicted |= super.evict(dependent);
+        }
+        release();
+        return evicted;
+    }
+
+    @Override
+    public JsonValidator recompile(String name) {
+        resources.remove(name);
+        JsonValidator validator = super.contains(name) ? super.recompile(name) : null;
+        for (String dependent : getDependents(name)) {
+            super.recompile(dependent);
+        }
+        release();
+        return validator;
+    }
+
+    @Override
+    protected String loadSchema(String name) {
+        Map<String, Object> definitions = new TreeMap<>();
+        Set<String> visited = new LinkedHashSet<>();
+
+        Map<String, Object> bundle;
+        if (name.indexOf('#') < 0) {
+            visited.add(name);
+            bundle = rewrite(getResource(name), name, name, definitions, visited);
+        } else {
+            bundle = new LinkedHashMap<>();
+            bundle.put("allOf", Collections.singletonList(
+                    Collections.singletonMap("$ref", resolveRef(name, "", null, definitions, visited))));
+        }
+
+        if (!definitions.isEmpty()) {
+            Object declared = bundle.get(DEFINITIONS);
+            Map<String, Object> merged = declared instanceof Map
+                    ? new TreeMap<>(asObject(declared))
+                    : new TreeMap<>();
+            merged.putAll(definitions);
+            bundle.put(DEFINITIONS, merged);
+        }
+
+        dependencies.put(name, Collections.unmodifiableSet(visited));
+        return toCanonical(bundle);
+    }
+
+    @Override
+    protected JsonValidator createValidator(String schema) {
+        CompiledSchema existing = compiled.get(schema);
+        if (existing != null) {
+            return existing.validator;
+        }
+        return compiled.computeIfAbsent(schema, key -> {
+            long allocatedBefore = allocatedBytes();
+            JsonValidator validator = super.createValidator(key);
+            long allocatedAfter = allocatedBytes();
+            return new CompiledSchema(validator,
+                    allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore);
+        }).validator;
+    }
+
+    private Map<String, ?> getResource(String name) {
+        Map<String, ?> resource = resources.get(name);
+        return resource != null
+                ? resource
+                : resources.computeIfAbsent(name, key -> JsonParser.stringToMap(super.loadSchema(key)));
+    }
+
+    private Set<String> getDependents(String name) {
+        Set<String> dependents = new LinkedHashSet<>();
+        dependencies.forEach((dependent, references) -> {
+            if (!dependent.equals(name) && references.contains(name) && getNames().contains(dependent)) {
+                dependents.add(dependent);
+            }
+        });
+        return dependents;
+    }
+
+    private void release() {
+        Set<JsonValidator> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        used.addAll(getValidators());
+        compiled.values().removeIf(schema -> !used.contains(schema.validator));
+    }
+
+    private Map<String, Object> rewrite(Map<String, ?> node, String base, String root,
+                                        Map<String, Object> definitions, Set<String> visited) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        node.forEach((key, value) -> copy.put(key, "$ref".equals(key) && value instanceof String
+                ? resolveRef((String) value, base, root, definitions, visited)
+                : rewriteValue(value, base, root, definitions, visited)));
+        return copy;
+    }
+
+    private Object rewriteValue(Object node, String base, String root,
+                                Map<String, Object> definitions, Set<String> visited) {
+        if (node instanceof Map) {
+            return rewrite(asObject(node), base, root, definitions, visited);
+        }
+        if (node instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<?>) node) {
+                copy.add(rewriteValue(item, base, root, definitions, visited));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    private String resolveRef(String ref, String base, String root,
+                              Map<String, Object> definitions, Set<String> visited) {
+        int hash = ref.indexOf('#');
+        String target = hash < 0 ? ref : ref.substring(0, hash);
+        String fragment = hash < 0 ? "" : ref.substring(hash + 1);
+        if ((!fragment.isEmpty() && !fragment.startsWith("/")) || URI.create(target).isAbsolute()) {
+            return ref;
+        }
+
+        String resource = target.isEmpty() ? base : URI.create(base).resolve(target).toString();
+        if (resource.equals(root)) {
+            return "#" + fragment;
+        }
+        if (visited.add(resource)) {
+            Map<String, Object> inlined = rewrite(getResource(resource), resource, root, definitions, visited);
+            inlined.remove("$id");
+            inlined.remove("id");
+            inlined.remove("$schema");
+            definitions.put(resource, inlined);
+        }
+        return "#/" + DEFINITIONS + "/" + resource.replace("~", "~0").replace("/", "~1") + fragment;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asObject(Object node) {
+        return (Map<String, Object>) node;
+    }
+
+    @SneakyThrows
+    private static String toCanonical(Map<String, Object> schema) {
+        return CANONICAL_MAPPER.writeValueAsString(schema);
+    }
+
+    @AllArgsConstructor
+    private static class CompiledSchema {
+
+        JsonValidator validator;
+        long memory;
+
+    }
+
+}
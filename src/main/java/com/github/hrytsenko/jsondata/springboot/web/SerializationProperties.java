@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.NonFinal;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("json-data.serialization")
+@Getter
+@Setter
+public class SerializationProperties {
+
+    @NonFinal
+    boolean module = true;
+    @NonFinal
+    boolean converter = true;
+    @NonFinal
+    boolean etag = false;
+    @NonFinal
+    boolean patch = true;
+    @NonFinal
+    SchemaGuidance schemaGuidance = SchemaGuidance.DISABLED;
+    @NonFinal
+    boolean primitiveArrays = false;
+    Canonical canonical = new Canonical();
+
+    @Getter
+    @Setter
+    public static class Canonical {
+
+        @NonFinal
+        boolean values = false;
+        @NonFinal
+        int maxValueLength = 32;
+        @NonFinal
+        int tableSize = 4096;
+
+    }
+
+}
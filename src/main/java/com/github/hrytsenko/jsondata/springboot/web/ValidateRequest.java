@@ -26,4 +26,6 @@ public @interface ValidateRequest {
 
     String value();
 
+    ValidationMode mode() default ValidationMode.DEFAULT;
+
 }
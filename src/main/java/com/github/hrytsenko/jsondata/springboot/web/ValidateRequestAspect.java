@@ -22,24 +22,115 @@ import lombok.AllArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
-import org.springframework.context.annotation.Configuration;
+import org.everit.json.schema.ValidationException;
+
+import java.util.Collections;
+import java.util.List;
 
 @Aspect
-@Configuration
 @AllArgsConstructor
 class ValidateRequestAspect {
 
     ValidatorSource validatorSource;
+    ValidationProperties validationProperties;
+    ParallelValidation parallelValidation;
+    ValidatorStatistics validatorStatistics;
+    ValidationMemo validationMemo;
 
     @Before("@annotation(config)")
     void handle(JoinPoint point, ValidateRequest config) {
-        JsonEntity<?> target = (JsonEntity<?>) point.getArgs()[0];
+        Object argument = findBody(point.getArgs());
+        if (argument instanceof JsonEntityPatch) {
+            ((JsonEntityPatch) argument).setValidation(target -> validateTimed(target, config));
+            return;
+        }
+
+        validateTimed((JsonEntity<?>) argument, config);
+    }
+
+    private static Object findBody(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof JsonEntity || argument instanceof JsonEntityPatch) {
+                return argument;
+            }
+        }
+        throw new IllegalStateException("No JSON entity or patch argument to validate");
+    }
+
+    private void validateTimed(JsonEntity<?> target, ValidateRequest config) {
+        long start = RequestTimings.begin(RequestTimings.Phase.VALIDATE_REQUEST);
+        try {
+            validate(target, config);
+        } finally {
+            RequestTimings.end(RequestTimings.Phase.VALIDATE_REQUEST, start);
+        }
+    }
+
+    private void validate(JsonEntity<?> target, ValidateRequest config) {
+        ValidationMode mode = validationProperties.resolveMode(config.mode());
+        String key = validationMemo.getKey(target, config.value(), mode);
+        Object version = key != null ? validatorSource.getValidator(config.value()) : null;
+        if (key != null) {
+            ValidationMemo.Outcome outcome = validationMemo.recall(key, version);
+            if (outcome != null) {
+                if (outcome.getViolations() != null) {
+                    throw new ServiceException.BadRequest("INVALID_REQUEST", outcome.getViolations(), null);
+                }
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            if (parallelValidation.isEnabled()) {
+                validateItems(target, config, mode);
+            } else {
+                validateEntity(target, config, mode);
+            }
+            failed = false;
+        } catch (ServiceException.BadRequest exception) {
+            if (key != null) {
+                validationMemo.remember(key, version, exception.getDetails());
+            }
+            throw exception;
+        } finally {
+            validatorStatistics.recordValidation(config.value(), System.nanoTime() - start, failed);
+        }
+        if (key != null) {
+            validationMemo.remember(key, version, null);
+        }
+    }
 
+    private void validateEntity(JsonEntity<?> target, ValidateRequest config, ValidationMode mode) {
         try {
-            validatorSource.getValidator(config.value())
-                    .validate(target);
+            if (mode == ValidationMode.FAIL_FAST && validatorSource instanceof CachingValidatorSource) {
+                ((CachingValidatorSource) validatorSource).validateFailEarly(config.value(), target);
+            } else {
+                validatorSource.getValidator(config.value())
+                        .validate(target);
+            }
+        } catch (JsonValidatorException | ValidationException exception) {
+            throw new ServiceException.BadRequest("INVALID_REQUEST",
+                    Violations.describe(exception, mode, validationProperties.getMaxViolations()), exception);
+        }
+    }
+
+    private void validateItems(JsonEntity<?> target, ValidateRequest config, ValidationMode mode) {
+        int limit = mode == ValidationMode.COLLECT_ALL
+                ? Math.max(1, validationProperties.getMaxViolations())
+                : 1;
+
+        List<String> violations;
+        try {
+            violations = parallelValidation.validate(target, config.value(), limit);
         } catch (JsonValidatorException exception) {
-            throw new ServiceException.BadRequest("INVALID_REQUEST", exception);
+            throw new ServiceException.BadRequest("INVALID_REQUEST",
+                    Violations.describe(exception, mode, validationProperties.getMaxViolations()), exception);
+        }
+        if (!violations.isEmpty()) {
+            throw new ServiceException.BadRequest("INVALID_REQUEST",
+                    mode == ValidationMode.COLLECT_ALL ? violations : Collections.<String>emptyList(), null);
         }
     }
 
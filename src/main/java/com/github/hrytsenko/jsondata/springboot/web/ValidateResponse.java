@@ -26,4 +26,6 @@ public @interface ValidateResponse {
 
     String value();
 
+    ValidationMode mode() default ValidationMode.DEFAULT;
+
 }
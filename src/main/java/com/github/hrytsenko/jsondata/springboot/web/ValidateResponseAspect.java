@@ -18,33 +18,51 @@ package com.github.hrytsenko.jsondata.springboot.web;
 import com.github.hrytsenko.jsondata.JsonEntity;
 import com.github.hrytsenko.jsondata.JsonValidatorException;
 import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+import com.github.hrytsenko.jsondata.springboot.internal.AsyncResults;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.context.annotation.Configuration;
+import org.everit.json.schema.ValidationException;
+
+import java.util.function.UnaryOperator;
 
 @Aspect
-@Configuration
 @AllArgsConstructor
 class ValidateResponseAspect {
 
     ValidatorSource validatorSource;
+    ValidationProperties validationProperties;
+    ValidatorStatistics validatorStatistics;
 
     @Around("@annotation(config)")
     @SneakyThrows
     Object handle(ProceedingJoinPoint point, ValidateResponse config) {
-        JsonEntity<?> target = (JsonEntity<?>) point.proceed();
+        return AsyncResults.intercept(point.proceed(),
+                value -> validate((JsonEntity<?>) value, config), UnaryOperator.identity());
+    }
 
+    private void validate(JsonEntity<?> target, ValidateResponse config) {
+        long timing = RequestTimings.begin(RequestTimings.Phase.VALIDATE_RESPONSE);
+        long start = System.nanoTime();
+        boolean failed = true;
+        ValidationMode mode = validationProperties.resolveMode(config.mode());
         try {
-            validatorSource.getValidator(config.value())
-                    .validate(target);
-        } catch (JsonValidatorException exception) {
-            throw new ServiceException.InternalError("INVALID_RESPONSE", exception);
+            if (mode == ValidationMode.FAIL_FAST && validatorSource instanceof CachingValidatorSource) {
+                ((CachingValidatorSource) validatorSource).validateFailEarly(config.value(), target);
+            } else {
+                validatorSource.getValidator(config.value())
+                        .validate(target);
+            }
+            failed = false;
+        } catch (JsonValidatorException | ValidationException exception) {
+            throw new ServiceException.InternalError("INVALID_RESPONSE",
+                    Violations.describe(exception, mode, validationProperties.getMaxViolations()), exception);
+        } finally {
+            validatorStatistics.recordValidation(config.value(), System.nanoTime() - start, failed);
+            RequestTimings.end(RequestTimings.Phase.VALIDATE_RESPONSE, timing);
         }
-
-        return target;
     }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ValidationMemo {
+
+    private static final String DIGEST_ATTRIBUTE = ValidationMemo.class.getName() + ".DIGEST";
+
+    boolean enabled;
+    int maxSize;
+    ConcurrentMap<String, Outcome> outcomes;
+    LongAdder hits;
+    LongAdder misses;
+
+    ValidationMemo(ValidationProperties validationProperties) {
+        ValidationProperties.Memo properties = validationProperties.getMemo();
+        this.enabled = properties.isEnabled() && properties.getMaxSize() > 0;
+        this.maxSize = properties.getMaxSize();
+        this.outcomes = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return outcomes.size();
+    }
+
+    static void rememberDigest(Object entity, byte[] digest) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(DIGEST_ATTRIBUTE,
+                    new Digest(entity, Base64.getEncoder().withoutPadding().encodeToString(digest)),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    String getKey(Object entity, String schema, ValidationMode mode) {
+        RequestAttributes attributes = enabled ? RequestContextHolder.getRequestAttributes() : null;
+        Object digest = attributes != null
+                ? attributes.getAttribute(DIGEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        if (!(digest instanceof Digest) || ((Digest) digest).entity != entity) {
+            return null;
+        }
+        return schema + '\n' + mode + '\n' + ((Digest) digest).value;
+    }
+
+    Outcome recall(String key, Object version) {
+        Outcome outcome = outcomes.get(key);
+        if (outcome != null && Objects.equals(outcome.version, version)) {
+            hits.increment();
+            return outcome;
+        }
+        misses.increment();
+        return null;
+    }
+
+    void remember(String key, Object version, List<String> violations) {
+        outcomes.put(key, new Outcome(version, violations));
+        Iterator<String> keys = outcomes.keySet().iterator();
+        while (outcomes.size() > maxSize && keys.hasNext()) {
+            String evicted = keys.next();
+            if (!evicted.equals(key)) {
+                keys.remove();
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Outcome {
+
+        Object version;
+        List<String> violations;
+
+    }
+
+    @AllArgsConstructor
+    private static class Digest {
+
+        Object entity;
+        String value;
+
+    }
+
+}
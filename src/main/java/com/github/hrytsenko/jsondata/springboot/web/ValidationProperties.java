@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.NonFinal;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("json-data.validation")
+@Getter
+@Setter
+public class ValidationProperties {
+
+    @NonFinal
+    boolean request = true;
+    @NonFinal
+    boolean response = true;
+    @NonFinal
+    ValidationMode mode = ValidationMode.FAIL_FAST;
+    @NonFinal
+    int maxViolations = 10;
+    @NonFinal
+    String schemaDirectory;
+    @NonFinal
+    boolean registry = false;
+    Parallel parallel = new Parallel();
+    Memo memo = new Memo();
+
+    public void setMode(ValidationMode mode) {
+        if (mode == null || mode == ValidationMode.DEFAULT) {
+            throw new IllegalArgumentException("Validation mode must be FAIL_FAST or COLLECT_ALL");
+        }
+        this.mode = mode;
+    }
+
+    ValidationMode resolveMode(ValidationMode mode) {
+        return mode == null || mode == ValidationMode.DEFAULT
+                ? this.mode
+                : mode;
+    }
+
+    @Getter
+    @Setter
+    public static class Parallel {
+
+        @NonFinal
+        boolean enabled = false;
+        @NonFinal
+        int threshold = 10_000;
+        @NonFinal
+        int parallelism = Runtime.getRuntime().availableProcessors();
+
+    }
+
+    @Getter
+    @Setter
+    public static class Memo {
+
+        @NonFinal
+        boolean enabled = false;
+        @NonFinal
+        int maxSize = 10_000;
+
+    }
+
+}
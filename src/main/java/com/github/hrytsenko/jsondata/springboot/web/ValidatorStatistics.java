@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.Getter;
+import lombok.experimental.NonFinal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ValidatorStatistics {
+
+    ConcurrentMap<String, SchemaStatistics> schemas = new ConcurrentHashMap<>();
+
+    public Collection<SchemaStatistics> getSchemas() {
+        return new ArrayList<>(schemas.values());
+    }
+
+    public SchemaStatistics getSchema(String name) {
+        return schemas.get(name);
+    }
+
+    void recordCompilation(String name, long nanos, long memory) {
+        SchemaStatistics schema = schemas.computeIfAbsent(name, SchemaStatistics::new);
+        schema.compileNanos = nanos;
+        schema.memoryEstimate = memory;
+        schema.compiled = true;
+    }
+
+    void recordEviction(String name) {
+        SchemaStatistics schema = schemas.get(name);
+        if (schema != null) {
+            schema.compiled = false;
+        }
+    }
+
+    void recordValidation(String name, long nanos, boolean failed) {
+        SchemaStatistics schema = schemas.computeIfAbsent(name, SchemaStatistics::new);
+        schema.invocations.increment();
+        if (failed) {
+            schema.failures.increment();
+        }
+        schema.latencies.record(nanos);
+    }
+
+    public static class SchemaStatistics {
+
+        @Getter
+        String name;
+        @Getter
+        @NonFinal
+        volatile boolean compiled;
+        @Getter
+        @NonFinal
+        volatile long compileNanos = -1;
+        @Getter
+        @NonFinal
+        volatile long memoryEstimate = -1;
+        LongAdder invocations = new LongAdder();
+        LongAdder failures = new LongAdder();
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        SchemaStatistics(String name) {
+            this.name = name;
+        }
+
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getLatencyPercentile(double percentile) {
+            return latencies.getPercentile(percentile);
+        }
+
+    }
+
+}
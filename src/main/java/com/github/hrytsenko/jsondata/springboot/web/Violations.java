@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.everit.json.schema.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class Violations {
+
+    private static final String ROOT = "#";
+
+    private Violations() {
+    }
+
+    static List<String> describe(Throwable exception, ValidationMode mode, int limit) {
+        if (mode != ValidationMode.COLLECT_ALL || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> violations = new LinkedHashSet<>();
+        collect(exception, ROOT, violations, limit);
+        return Collections.unmodifiableList(new ArrayList<>(violations));
+    }
+
+    static void collect(Throwable exception, String base, Set<String> violations, int limit) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current instanceof ValidationException) {
+                collect((ValidationException) current, base, violations, limit);
+                return;
+            }
+        }
+        if (violations.size() < limit && exception.getMessage() != null) {
+            violations.add(ROOT.equals(base) ? exception.getMessage() : base + ": " + exception.getMessage());
+        }
+    }
+
+    private static void collect(ValidationException exception, String base, Set<String> violations, int limit) {
+        List<ValidationException> causes = exception.getCausingExceptions();
+        if (causes.isEmpty()) {
+            if (violations.size() < limit) {
+                violations.add(resolvePointer(base, exception.getPointerToViolation())
+                        + ": " + exception.getErrorMessage());
+            }
+            return;
+        }
+        for (ValidationException cause : causes) {
+            if (violations.size() >= limit) {
+                return;
+            }
+            collect(cause, base, violations, limit);
+        }
+    }
+
+    private static String resolvePointer(String base, String pointer) {
+        return pointer != null && pointer.startsWith(ROOT)
+                ? base + pointer.substring(ROOT.length())
+                : base;
+    }
+
+}
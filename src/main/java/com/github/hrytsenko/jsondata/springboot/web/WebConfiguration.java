@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+
+import java.util.stream.Collectors;
+
+@Configuration(proxyBeanMethods = false)
+@Import(JacksonConfiguration.class)
+public class WebConfiguration {
+
+    @Bean
+    public ValidationMemo validationMemo(ValidationProperties validationProperties) {
+        return new ValidationMemo(validationProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.validation", name = "request", matchIfMissing = true)
+    public ParallelValidation parallelValidation(ValidationProperties validationProperties,
+                                                 ValidatorSource validatorSource) {
+        return new ParallelValidation(validationProperties, validatorSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.validation", name = "request", matchIfMissing = true)
+    public ValidateRequestAspect validateRequestAspect(ValidatorSource validatorSource,
+                                                       ValidationProperties validationProperties,
+                                                       ParallelValidation parallelValidation,
+                                                       ValidatorStatistics validatorStatistics,
+                                                       ValidationMemo validationMemo) {
+        return new ValidateRequestAspect(validatorSource, validationProperties, parallelValidation, validatorStatistics,
+                validationMemo);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.validation", name = "response", matchIfMissing = true)
+    public ValidateResponseAspect validateResponseAspect(ValidatorSource validatorSource,
+                                                         ValidationProperties validationProperties,
+                                                         ValidatorStatistics validatorStatistics) {
+        return new ValidateResponseAspect(validatorSource, validationProperties, validatorStatistics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json-data.timing", name = "enabled")
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(TimingProperties timingProperties,
+                                                                          ObjectProvider<RequestTimingsListener> listeners) {
+        FilterRegistrationBean<RequestTimingFilter> registration = new FilterRegistrationBean<>(
+                new RequestTimingFilter(timingProperties.isServerTiming(),
+                        listeners.orderedStream().collect(Collectors.toList())));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+}
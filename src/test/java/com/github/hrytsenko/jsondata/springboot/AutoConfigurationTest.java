@@ -16,27 +16,70 @@
 package com.github.hrytsenko.jsondata.springboot;
 
 import com.github.hrytsenko.jsondata.springboot.error.CorrelationSource;
+import com.github.hrytsenko.jsondata.springboot.error.ErrorProperties;
+import com.github.hrytsenko.jsondata.springboot.web.SchemaRegistry;
+import com.github.hrytsenko.jsondata.springboot.web.ValidationProperties;
 import com.github.hrytsenko.jsondata.springboot.web.ValidatorSource;
+import com.github.hrytsenko.jsondata.springboot.web.ValidatorStatistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
 class AutoConfigurationTest {
 
     @Test
     void correlationSource_undefined() {
-        CorrelationSource correlationSource = new AutoConfiguration().undefinedCorrelationSource();
+        CorrelationSource correlationSource = new AutoConfiguration().defaultCorrelationSource(new ErrorProperties());
 
         String actualCorrelation = correlationSource.getCorrelation();
 
         Assertions.assertEquals("UNDEFINED", actualCorrelation);
     }
 
+    @Test
+    void correlationSource_mdc() {
+        CorrelationSource correlationSource = new AutoConfiguration().defaultCorrelationSource(new ErrorProperties());
+
+        MDC.put("correlation", "CORRELATION");
+        try {
+            String actualCorrelation = correlationSource.getCorrelation();
+
+            Assertions.assertEquals("CORRELATION", actualCorrelation);
+        } finally {
+            MDC.remove("correlation");
+        }
+    }
+
     @Test
     void validatorSource_default() {
-        ValidatorSource validatorSource = new AutoConfiguration().defaultValidatorSource();
+        ValidatorSource validatorSource = new AutoConfiguration().defaultValidatorSource(
+                new ValidatorStatistics(), new ValidationProperties());
+
+        Assertions.assertDoesNotThrow(
+                () -> validatorSource.getValidator("empty-schema.json"));
+    }
+
+    @Test
+    void validatorSource_registry() {
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.setRegistry(true);
+
+        ValidatorSource validatorSource = new AutoConfiguration().defaultValidatorSource(
+                new ValidatorStatistics(), validationProperties);
 
+        Assertions.assertTrue(validatorSource instanceof SchemaRegistry);
         Assertions.assertDoesNotThrow(
                 () -> validatorSource.getValidator("empty-schema.json"));
     }
 
+    @Test
+    void validatorSource_directoryAndRegistry() {
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.setSchemaDirectory("schemas");
+        validationProperties.setRegistry(true);
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new AutoConfiguration().defaultValidatorSource(new ValidatorStatistics(), validationProperties));
+    }
+
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot;
+
+import lombok.SneakyThrows;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+public final class StressHarness {
+
+    public static final String TAG = "stress";
+
+    private static final int THREADS = Integer.getInteger("stress.threads", Runtime.getRuntime().availableProcessors());
+
+    private StressHarness() {
+    }
+
+    public static void run(String name, int operations, Supplier<IntConsumer> worker) {
+        double baseline = 0;
+        for (int threads : threadCounts()) {
+            double throughput = measure(threads, operations, worker);
+            if (baseline == 0) {
+                baseline = throughput;
+            }
+            System.out.printf(Locale.ROOT, "[%s] %-24s threads=%-3d throughput=%,14.0f ops/s scaling=%.2f%n",
+                    TAG, name, threads, throughput, throughput / baseline);
+        }
+    }
+
+    public static HttpServletRequest mockRequest(Map<String, String> headers) {
+        Map<Object, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, arguments) -> {
+                    switch (method.getName()) {
+                        case "getHeader":
+                            return headers.get(arguments[0]);
+                        case "getAttribute":
+                            return attributes.get(arguments[0]);
+                        case "setAttribute":
+                            return attributes.put(arguments[0], arguments[1]);
+                        case "removeAttribute":
+                            return attributes.remove(arguments[0]);
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    public static <T> T mockProxy(Class<T> type, String method, Function<Object[], Object> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, invoked, arguments) -> method.equals(invoked.getName())
+                        ? answer.apply(arguments)
+                        : defaultValue(invoked.getReturnType())));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        return type.isPrimitive() && type != void.class ? 0 : null;
+    }
+
+    private static List<Integer> threadCounts() {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < THREADS; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(Math.max(1, THREADS));
+        return counts;
+    }
+
+    @SneakyThrows
+    private static double measure(int threads, int operations, Supplier<IntConsumer> worker) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger next = new AtomicInteger();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    IntConsumer operation;
+                    try {
+                        operation = worker.get();
+                    } finally {
+                        ready.countDown();
+                    }
+                    start.await();
+                    for (int index = next.getAndIncrement(); index < operations; index = next.getAndIncrement()) {
+                        operation.accept(index);
+                    }
+                    return null;
+                }));
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException exception) {
+                    throw exception.getCause();
+                }
+            }
+            return operations * 1e9 / (System.nanoTime() - begin);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
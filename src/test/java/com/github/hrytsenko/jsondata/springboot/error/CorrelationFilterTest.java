@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.MDC;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+
+class CorrelationFilterTest {
+
+    CorrelationFilter filter = new CorrelationFilter("X-Correlation-ID", "correlation");
+
+    @Test
+    void generateCorrelation() {
+        String actualCorrelation = CorrelationFilter.generateCorrelation();
+
+        Assertions.assertTrue(actualCorrelation.matches("[0-9a-f]{16}"));
+        Assertions.assertNotEquals(actualCorrelation, CorrelationFilter.generateCorrelation());
+    }
+
+    @Test
+    void isValid() {
+        Assertions.assertTrue(CorrelationFilter.isValid("4bf92f3577b34da6-a3ce929d0e0e4736"));
+        Assertions.assertFalse(CorrelationFilter.isValid(null));
+        Assertions.assertFalse(CorrelationFilter.isValid(""));
+        Assertions.assertFalse(CorrelationFilter.isValid("FOO\nBAR"));
+        Assertions.assertFalse(CorrelationFilter.isValid(new String(new char[65]).replace('\0', 'a')));
+    }
+
+    @Test
+    @SneakyThrows
+    void doFilter_incoming() {
+        HttpServletRequest sourceRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.doReturn("CORRELATION")
+                .when(sourceRequest).getHeader("X-Correlation-ID");
+        HttpServletResponse sourceResponse = Mockito.mock(HttpServletResponse.class);
+        AtomicReference<String> actualCorrelation = new AtomicReference<>();
+        FilterChain sourceChain = (request, response) -> actualCorrelation.set(MDC.get("correlation"));
+
+        filter.doFilter(sourceRequest, sourceResponse, sourceChain);
+
+        Assertions.assertEquals("CORRELATION", actualCorrelation.get());
+        Assertions.assertNull(MDC.get("correlation"));
+        Mockito.verify(sourceResponse).setHeader("X-Correlation-ID", "CORRELATION");
+    }
+
+    @Test
+    @SneakyThrows
+    void doFilter_generated() {
+        HttpServletRequest sourceRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse sourceResponse = Mockito.mock(HttpServletResponse.class);
+        AtomicReference<String> actualCorrelation = new AtomicReference<>();
+        FilterChain sourceChain = (request, response) -> actualCorrelation.set(MDC.get("correlation"));
+
+        filter.doFilter(sourceRequest, sourceResponse, sourceChain);
+
+        Assertions.assertNotNull(actualCorrelation.get());
+        Mockito.verify(sourceResponse).setHeader("X-Correlation-ID", actualCorrelation.get());
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class CorrelationTaskDecoratorTest {
+
+    @Test
+    void decorate() throws InterruptedException {
+        CorrelationTaskDecorator decorator = new CorrelationTaskDecorator("correlation");
+        AtomicReference<String> actualCorrelation = new AtomicReference<>();
+
+        Runnable task;
+        MDC.put("correlation", "CORRELATION");
+        try {
+            task = decorator.decorate(() -> actualCorrelation.set(MDC.get("correlation")));
+        } finally {
+            MDC.remove("correlation");
+        }
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        Assertions.assertEquals("CORRELATION", actualCorrelation.get());
+    }
+
+}
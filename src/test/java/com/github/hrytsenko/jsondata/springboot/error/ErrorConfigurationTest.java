@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.ResponseEntity;
+
+class ErrorConfigurationTest {
+
+    @Test
+    void exceptionAdvice() {
+        CorrelationSource correlationSource = () -> "CORRELATION";
+
+        ExceptionAdvice actualAdvice = new ErrorConfiguration().exceptionAdvice(correlationSource);
+
+        ResponseEntity<JsonBean> actualResponse = actualAdvice.onBadRequest(
+                new ServiceException.BadRequest("BAD_REQUEST"));
+
+        Assertions.assertEquals("CORRELATION", actualResponse.getBody().getString("error.correlation"));
+    }
+
+    @Test
+    void correlationFilter_mdc() {
+        FilterRegistrationBean<CorrelationFilter> actualRegistration = new ErrorConfiguration().correlationFilter(
+                new ErrorProperties(), new MdcCorrelationSource("correlation"));
+
+        Assertions.assertTrue(actualRegistration.isEnabled());
+    }
+
+    @Test
+    void correlationFilter_custom() {
+        FilterRegistrationBean<CorrelationFilter> actualRegistration = new ErrorConfiguration().correlationFilter(
+                new ErrorProperties(), () -> "CORRELATION");
+
+        Assertions.assertFalse(actualRegistration.isEnabled());
+    }
+
+}
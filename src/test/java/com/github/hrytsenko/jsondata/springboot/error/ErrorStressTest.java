@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.error;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.springboot.StressHarness;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Tag(StressHarness.TAG)
+class ErrorStressTest {
+
+    private static final int OPERATIONS = 200_000;
+    private static final int LOGGED_OPERATIONS = 20_000;
+
+    @Test
+    void exceptionAdvice() {
+        ExceptionAdvice exceptionAdvice = new ExceptionAdvice(new MdcCorrelationSource("correlation"));
+
+        StressHarness.run("exception-advice", LOGGED_OPERATIONS, () -> index -> {
+            List<String> details = Collections.singletonList("DETAILS-" + index);
+            MDC.put("correlation", "CORRELATION-" + index);
+            try {
+                ResponseEntity<JsonBean> response = exceptionAdvice.onBadRequest(
+                        new ServiceException.BadRequest("BAD_REQUEST", details, null));
+
+                Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+                JsonBean body = response.getBody();
+                Assertions.assertNotNull(body);
+                Assertions.assertEquals("CORRELATION-" + index, body.getString("error.correlation"));
+                ExceptionAdvicesTest.assertDetails(details, response);
+            } finally {
+                MDC.remove("correlation");
+            }
+        });
+    }
+
+    @Test
+    void wrapErrors_async() {
+        WrapErrorsAspect aspect = new WrapErrorsAspect();
+        WrapErrors config = getConfig();
+
+        StressHarness.run("wrap-errors-async", OPERATIONS, () -> index -> {
+            CompletableFuture<Object> source = new CompletableFuture<>();
+            CompletableFuture<?> actual = (CompletableFuture<?>) aspect.handle(
+                    StressHarness.mockProxy(ProceedingJoinPoint.class, "proceed", arguments -> source), config);
+
+            if (index % 2 == 0) {
+                source.complete(index);
+                Assertions.assertEquals(index, actual.join());
+            } else {
+                source.completeExceptionally(new IOException());
+                CompletionException exception = Assertions.assertThrows(CompletionException.class, actual::join);
+                Assertions.assertTrue(exception.getCause() instanceof ServiceException.InternalError);
+            }
+        });
+    }
+
+    @Test
+    void correlationFilter() {
+        CorrelationFilter filter = new CorrelationFilter("X-Correlation-ID", "correlation");
+
+        StressHarness.run("correlation-filter", OPERATIONS, () -> index -> {
+            String incoming = index % 2 == 0 ? "CORRELATION-" + index : null;
+            AtomicReference<String> propagated = new AtomicReference<>();
+            AtomicReference<String> returned = new AtomicReference<>();
+            FilterChain chain = (request, response) -> propagated.set(MDC.get("correlation"));
+
+            doFilter(filter, incoming, chain, StressHarness.mockProxy(HttpServletResponse.class, "setHeader",
+                    arguments -> {
+                        returned.set((String) arguments[1]);
+                        return null;
+                    }));
+
+            Assertions.assertNotNull(propagated.get());
+            Assertions.assertEquals(propagated.get(), returned.get());
+            if (incoming != null) {
+                Assertions.assertEquals(incoming, propagated.get());
+            }
+            Assertions.assertNull(MDC.get("correlation"));
+        });
+    }
+
+    @SneakyThrows
+    private static void doFilter(CorrelationFilter filter, String correlation, FilterChain chain,
+                                 HttpServletResponse response) {
+        filter.doFilter(StressHarness.mockRequest(correlation != null
+                ? Collections.singletonMap("X-Correlation-ID", correlation)
+                : Collections.emptyMap()), response, chain);
+    }
+
+    @SneakyThrows
+    private static WrapErrors getConfig() {
+        return ErrorStressTest.class.getDeclaredMethod("wrapped").getAnnotation(WrapErrors.class);
+    }
+
+    @WrapErrors("ERROR")
+    private static void wrapped() {
+    }
+
+}
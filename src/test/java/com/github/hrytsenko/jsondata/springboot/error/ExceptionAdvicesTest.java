@@ -24,6 +24,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 class ExceptionAdvicesTest {
 
     private static final String CORRELATION = "CORRELATION";
@@ -54,6 +58,15 @@ class ExceptionAdvicesTest {
         assertResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", actualResponse);
     }
 
+    @Test
+    void onBadRequest_details() {
+        ResponseEntity<?> actualResponse = exceptionAdvice.onBadRequest(
+                new ServiceException.BadRequest("BAD_REQUEST", Collections.singletonList("DETAILS"), null));
+
+        assertResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", actualResponse);
+        assertDetails(Collections.singletonList("DETAILS"), actualResponse);
+    }
+
     @Test
     void onUnauthorized() {
         ResponseEntity<?> actualResponse = exceptionAdvice.onUnauthorized(
@@ -108,4 +121,11 @@ class ExceptionAdvicesTest {
         Assertions.assertEquals(expectedCode, actualCode);
     }
 
+    static void assertDetails(List<String> expectedDetails, ResponseEntity<?> actualResponse) {
+        JsonBean actualBody = (JsonBean) actualResponse.getBody();
+        Assertions.assertNotNull(actualBody);
+        Map<?, ?> actualError = (Map<?, ?>) actualBody.asMap().get("error");
+        Assertions.assertEquals(expectedDetails, actualError.get("details"));
+    }
+
 }
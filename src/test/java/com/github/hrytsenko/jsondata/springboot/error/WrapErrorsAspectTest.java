@@ -22,6 +22,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 class WrapErrorsAspectTest {
 
     WrapErrorsAspect aspect;
@@ -63,6 +68,48 @@ class WrapErrorsAspectTest {
         Assertions.assertSame(sourceException, actualException);
     }
 
+    @Test
+    @SneakyThrows
+    void handle_completionStage() {
+        CompletableFuture<Object> sourceFuture = new CompletableFuture<>();
+
+        ProceedingJoinPoint sourceJoinPoint = Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.doReturn(sourceFuture)
+                .when(sourceJoinPoint).proceed();
+        WrapErrors sourceConfig = Mockito.mock(WrapErrors.class);
+
+        CompletableFuture<?> actualFuture = (CompletableFuture<?>) aspect.handle(sourceJoinPoint, sourceConfig);
+        sourceFuture.completeExceptionally(new IOException());
+
+        ExecutionException actualException = Assertions.assertThrows(ExecutionException.class, actualFuture::get);
+        Assertions.assertTrue(actualException.getCause() instanceof ServiceException.InternalError);
+        Assertions.assertTrue(actualException.getCause().getCause() instanceof IOException);
+    }
+
+    @Test
+    @SneakyThrows
+    void handle_callable() {
+        ServiceException.NotFound sourceException = new ServiceException.NotFound();
+        Callable<Object> sourceCallable = () -> {
+            throw new IOException();
+        };
+        Callable<Object> sourceServiceCallable = () -> {
+            throw sourceException;
+        };
+
+        ProceedingJoinPoint sourceJoinPoint = Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.doReturn(sourceCallable, sourceServiceCallable)
+                .when(sourceJoinPoint).proceed();
+        WrapErrors sourceConfig = Mockito.mock(WrapErrors.class);
+
+        Callable<?> actualCallable = (Callable<?>) aspect.handle(sourceJoinPoint, sourceConfig);
+        Callable<?> actualServiceCallable = (Callable<?>) aspect.handle(sourceJoinPoint, sourceConfig);
+
+        Assertions.assertThrows(ServiceException.InternalError.class, actualCallable::call);
+        Assertions.assertSame(sourceException,
+                Assertions.assertThrows(ServiceException.NotFound.class, actualServiceCallable::call));
+    }
+
     @SneakyThrows
     private ProceedingJoinPoint mockJoinPoint(Exception exception) {
         ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
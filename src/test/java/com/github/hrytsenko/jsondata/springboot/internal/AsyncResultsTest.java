@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.internal;
+
+import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+class AsyncResultsTest {
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void intercept_value() {
+        List<Object> actualValues = new ArrayList<>();
+
+        Object actualResult = AsyncResults.intercept("FOO", actualValues::add, UnaryOperator.identity());
+
+        Assertions.assertEquals("FOO", actualResult);
+        Assertions.assertEquals("FOO", actualValues.get(0));
+    }
+
+    @Test
+    @SneakyThrows
+    void intercept_deferredResult() {
+        WebAsyncManager sourceManager = mockAsyncManager();
+        DeferredResult<Object> sourceResult = new DeferredResult<>();
+        List<Object> actualValues = new ArrayList<>();
+
+        Object actualResult = AsyncResults.intercept(sourceResult, actualValues::add,
+                error -> new ServiceException.InternalError("ERROR", error));
+
+        ArgumentCaptor<DeferredResultProcessingInterceptor> actualInterceptor =
+                ArgumentCaptor.forClass(DeferredResultProcessingInterceptor.class);
+        Mockito.verify(sourceManager)
+                .registerDeferredResultInterceptor(Mockito.any(), actualInterceptor.capture());
+        Assertions.assertSame(sourceResult, actualResult);
+
+        actualInterceptor.getValue().postProcess(null, sourceResult, "FOO");
+        Assertions.assertEquals("FOO", actualValues.get(0));
+
+        Assertions.assertThrows(ServiceException.InternalError.class,
+                () -> actualInterceptor.getValue().postProcess(null, sourceResult, new IOException()));
+        Assertions.assertDoesNotThrow(
+                () -> actualInterceptor.getValue().postProcess(null, new DeferredResult<>(), new IOException()));
+    }
+
+    @Test
+    @SneakyThrows
+    void intercept_deferredResultChain() {
+        WebAsyncManager sourceManager = mockAsyncManager();
+        DeferredResult<Object> sourceResult = new DeferredResult<>();
+
+        AsyncResults.intercept(sourceResult, value -> {}, UnaryOperator.identity());
+        AsyncResults.intercept(sourceResult, value -> {},
+                error -> new ServiceException.InternalError("ERROR", error));
+
+        ArgumentCaptor<DeferredResultProcessingInterceptor> actualInterceptors =
+                ArgumentCaptor.forClass(DeferredResultProcessingInterceptor.class);
+        Mockito.verify(sourceManager, Mockito.times(2))
+                .registerDeferredResultInterceptor(Mockito.any(), actualInterceptors.capture());
+
+        Object actualResult = postProcess(actualInterceptors.getAllValues(), sourceResult, new IOException());
+
+        Assertions.assertTrue(actualResult instanceof ServiceException.InternalError);
+    }
+
+    private static Object postProcess(List<DeferredResultProcessingInterceptor> interceptors,
+                                      DeferredResult<Object> result, Object concurrentResult) {
+        for (DeferredResultProcessingInterceptor interceptor : interceptors) {
+            try {
+                interceptor.postProcess(null, result, concurrentResult);
+            } catch (Throwable error) {
+                return error;
+            }
+        }
+        return concurrentResult;
+    }
+
+    private static WebAsyncManager mockAsyncManager() {
+        WebAsyncManager manager = Mockito.mock(WebAsyncManager.class);
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.doReturn(manager)
+                .when(request).getAttribute(WebAsyncUtils.WEB_ASYNC_MANAGER_ATTRIBUTE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return manager;
+    }
+
+}
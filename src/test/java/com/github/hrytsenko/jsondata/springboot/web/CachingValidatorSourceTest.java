@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import org.everit.json.schema.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachingValidatorSourceTest {
+
+    Map<String, String> schemas;
+    AtomicInteger loads;
+    ValidatorStatistics statistics;
+    CachingValidatorSource validatorSource;
+
+    @BeforeEach
+    void init() {
+        schemas = new HashMap<>();
+        schemas.put("schema.json", "{\"required\":[\"foo\"]}");
+        loads = new AtomicInteger();
+        statistics = new ValidatorStatistics();
+        validatorSource = new CachingValidatorSource(name -> {
+            loads.incrementAndGet();
+            return schemas.get(name);
+        }, statistics);
+    }
+
+    @Test
+    void getValidator_cached() {
+        JsonValidator actualValidator = validatorSource.getValidator("schema.json");
+
+        Assertions.assertSame(actualValidator, validatorSource.getValidator("schema.json"));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertTrue(statistics.getSchema("schema.json").isCompiled());
+        Assertions.assertTrue(statistics.getSchema("schema.json").getCompileNanos() >= 0);
+    }
+
+    @Test
+    void evict() {
+        JsonValidator sourceValidator = validatorSource.getValidator("schema.json");
+
+        Assertions.assertTrue(validatorSource.evict("schema.json"));
+
+        Assertions.assertFalse(statistics.getSchema("schema.json").isCompiled());
+        Assertions.assertNotSame(sourceValidator, validatorSource.getValidator("schema.json"));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_unknown() {
+        Assertions.assertFalse(validatorSource.evict("unknown.json"));
+    }
+
+    @Test
+    void validateFailEarly() {
+        schemas.put("items.json", "{\"items\":{\"required\":[\"foo\"]}}");
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'items':[{},{}]}", JsonBean::create);
+
+        ValidationException actualException = Assertions.assertThrows(ValidationException.class,
+                () -> validatorSource.validateFailEarly("items.json", sourceEntity));
+
+        Assertions.assertEquals(0, actualException.getCausingExceptions().size());
+        Assertions.assertEquals("#/items/0", actualException.getPointerToViolation());
+    }
+
+    @Test
+    void validateFailEarly_null() {
+        schemas.put("nullable.json",
+                "{\"properties\":{\"foo\":{\"type\":[\"string\",\"null\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':null}", JsonBean::create);
+
+        Assertions.assertDoesNotThrow(
+                () -> validatorSource.validateFailEarly("nullable.json", sourceEntity));
+    }
+
+    @Test
+    void contains() {
+        validatorSource.getValidator("schema.json");
+
+        Assertions.assertTrue(validatorSource.contains("schema.json"));
+        Assertions.assertFalse(validatorSource.contains("unknown.json"));
+    }
+
+    @Test
+    void recompile_failure() {
+        JsonValidator sourceValidator = validatorSource.getValidator("schema.json");
+        schemas.put("schema.json", "{");
+
+        Assertions.assertThrows(RuntimeException.class,
+                () -> validatorSource.recompile("schema.json"));
+
+        Assertions.assertSame(sourceValidator, validatorSource.getValidator("schema.json"));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class CanonicalTableTest {
+
+    @Test
+    void canonicalize() {
+        CanonicalTable table = new CanonicalTable(10);
+        String sourceValue = new String("FOO");
+
+        String actualValue = table.canonicalize(new String("FOO"));
+
+        Assertions.assertSame(actualValue, table.canonicalize(sourceValue));
+    }
+
+    @Test
+    void canonicalize_bounded() {
+        CanonicalTable table = new CanonicalTable(1);
+        table.canonicalize("FOO");
+        String sourceValue = new String("BAR");
+
+        String actualValue = table.canonicalize(sourceValue);
+
+        Assertions.assertSame(sourceValue, actualValue);
+        Assertions.assertSame(sourceValue, table.canonicalize(new String("BAR")));
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void canonicalize_replaced() {
+        CanonicalTable table = new CanonicalTable(16);
+        IntStream.range(0, 1000).forEach(index -> table.canonicalize("FOO" + index));
+        String sourceValue = new String("BAR");
+
+        String actualValue = table.canonicalize(sourceValue);
+
+        Assertions.assertSame(sourceValue, actualValue);
+        Assertions.assertSame(sourceValue, table.canonicalize(new String("BAR")));
+        Assertions.assertTrue(table.size() <= 16);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonValidator;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+class DirectoryValidatorSourceTest {
+
+    @TempDir
+    Path directory;
+    DirectoryValidatorSource validatorSource;
+
+    @BeforeEach
+    void init() {
+        writeSchema("schema.json", "{\"required\":[\"foo\"]}");
+        validatorSource = new DirectoryValidatorSource(directory, new ValidatorStatistics());
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void destroy() {
+        validatorSource.destroy();
+    }
+
+    @Test
+    void getValidator() {
+        JsonValidator actualValidator = validatorSource.getValidator("/schema.json");
+
+        Assertions.assertSame(actualValidator, validatorSource.getValidator("/schema.json"));
+    }
+
+    @Test
+    void getValidator_outsideDirectory() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> validatorSource.getValidator("/../schema.json"));
+    }
+
+    @Test
+    void reload() {
+        JsonValidator sourceValidator = validatorSource.getValidator("/schema.json");
+        writeSchema("schema.json", "{\"required\":[\"bar\"]}");
+
+        validatorSource.reload(Collections.singleton(directory.toAbsolutePath().normalize().resolve("schema.json")));
+
+        Assertions.assertNotSame(sourceValidator, validatorSource.getValidator("/schema.json"));
+    }
+
+    @Test
+    void reload_brokenSchema() {
+        JsonValidator sourceValidator = validatorSource.getValidator("/schema.json");
+        writeSchema("schema.json", "{");
+
+        validatorSource.reload(Collections.singleton(directory.toAbsolutePath().normalize().resolve("schema.json")));
+
+        Assertions.assertSame(sourceValidator, validatorSource.getValidator("/schema.json"));
+    }
+
+    @SneakyThrows
+    private void writeSchema(String name, String schema) {
+        Files.write(directory.resolve(name), schema.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -18,6 +18,7 @@ package com.github.hrytsenko.jsondata.springboot.web;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static com.github.hrytsenko.jsondata.JsonParser.stringToEntity;
@@ -73,6 +75,79 @@ class JacksonConfigurationTest {
         Assertions.assertEquals(expectedEntity, actualEntity);
     }
 
+    @Test
+    @SneakyThrows
+    void deserialize_canonical() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.getCanonical().setValues(true);
+        ObjectMapper sourceMapper = new ObjectMapper()
+                .registerModule(JacksonConfiguration.createModule(sourceProperties));
+
+        JsonBean firstEntity = sourceMapper.readValue("{\"foo\":\"FOO\",\"bar\":[1,2.5,true,null]}", JsonBean.class);
+        JsonBean secondEntity = sourceMapper.readValue("{\"foo\":\"FOO\",\"bar\":[1,2.5,true,null]}", JsonBean.class);
+
+        JsonBean expectedEntity = new ObjectMapper()
+                .registerModule(JacksonConfiguration.createModule(new SerializationProperties()))
+                .readValue("{\"foo\":\"FOO\",\"bar\":[1,2.5,true,null]}", JsonBean.class);
+        Assertions.assertEquals(expectedEntity, firstEntity);
+        Assertions.assertSame(firstEntity.asMap().get("foo"), secondEntity.asMap().get("foo"));
+    }
+
+    @Test
+    @SneakyThrows
+    void deserialize_schemaGuided() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.setSchemaGuidance(SchemaGuidance.SKIP_UNKNOWN);
+        ObjectMapper sourceMapper = new ObjectMapper()
+                .registerModule(JacksonConfiguration.createModule(sourceProperties));
+        SchemaGuide sourceGuide = SchemaGuide.create(stringToMap("{'properties':{'foo':{'type':'integer'},"
+                + "'bar':{'properties':{'baz':{}},'additionalProperties':false}},'additionalProperties':false}"));
+
+        JsonBean actualEntity = sourceMapper.readerFor(JsonBean.class)
+                .withAttribute(SchemaGuide.class, sourceGuide)
+                .readValue("{\"foo\":1.0,\"bar\":{\"baz\":true,\"qux\":[1]},\"qux\":{}}");
+
+        Map<String, ?> expectedObject = stringToMap("{'bar':{'baz':true}}");
+        Assertions.assertEquals(2, actualEntity.asMap().size());
+        Assertions.assertEquals(1, actualEntity.asMap().get("foo"));
+        Assertions.assertEquals(expectedObject.get("bar"), actualEntity.asMap().get("bar"));
+    }
+
+    @Test
+    @SneakyThrows
+    void deserialize_schemaGuidedOpen() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.setSchemaGuidance(SchemaGuidance.SKIP_UNKNOWN);
+        ObjectMapper sourceMapper = new ObjectMapper()
+                .registerModule(JacksonConfiguration.createModule(sourceProperties));
+        SchemaGuide sourceGuide = SchemaGuide.create(stringToMap("{'properties':{'foo':{'type':'integer'}}}"));
+
+        JsonBean actualEntity = sourceMapper.readerFor(JsonBean.class)
+                .withAttribute(SchemaGuide.class, sourceGuide)
+                .readValue("{\"foo\":1,\"qux\":{\"baz\":true}}");
+
+        Assertions.assertEquals(stringToMap("{'foo':1,'qux':{'baz':true}}"), actualEntity.asMap());
+    }
+
+    @Test
+    @SneakyThrows
+    void deserialize_primitiveArrays() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.setPrimitiveArrays(true);
+        ObjectMapper sourceMapper = new ObjectMapper()
+                .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+                .registerModule(JacksonConfiguration.createModule(sourceProperties));
+        String sourceJson = "{\"foo\":[1,2,3],\"bar\":[1.5,2.5],\"baz\":[1,2.5]}";
+
+        JsonBean actualEntity = sourceMapper.readValue(sourceJson, JsonBean.class);
+
+        Assertions.assertEquals(LongArrayList.class, actualEntity.asMap().get("foo").getClass());
+        Assertions.assertEquals(DoubleArrayList.class, actualEntity.asMap().get("bar").getClass());
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), actualEntity.asMap().get("foo"));
+        Assertions.assertEquals(Arrays.asList(1L, 2.5), actualEntity.asMap().get("baz"));
+        Assertions.assertEquals(sourceJson, sourceMapper.writeValueAsString(actualEntity));
+    }
+
     @Test
     void enableDeserializer() {
         BeanDescription sourceBean = Mockito.mock(BeanDescription.class);
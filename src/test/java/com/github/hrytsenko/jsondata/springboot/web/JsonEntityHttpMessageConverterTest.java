@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+class JsonEntityHttpMessageConverterTest {
+
+    ObjectMapper objectMapper;
+    JsonEntityHttpMessageConverter converter;
+
+    @BeforeEach
+    void init() {
+        objectMapper = new ObjectMapper()
+                .registerModule(JacksonConfiguration.createModule(new SerializationProperties()));
+        converter = new JsonEntityHttpMessageConverter(objectMapper, new SerializationProperties(),
+                new ValidationMemo(new ValidationProperties()));
+    }
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
+        RequestTimings.stop();
+    }
+
+    @Test
+    void supports() {
+        Assertions.assertTrue(converter.canRead(JsonBean.class, MediaType.APPLICATION_JSON));
+        Assertions.assertTrue(converter.canWrite(JsonBean.class, MediaType.APPLICATION_JSON));
+        Assertions.assertFalse(converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @SneakyThrows
+    void read() {
+        HttpInputMessage sourceMessage = mockInputMessage("{\"foo\":\"FOO\"}");
+
+        Object actualEntity = converter.read(JsonBean.class, sourceMessage);
+
+        JsonBean expectedEntity = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+        Assertions.assertEquals(expectedEntity, actualEntity);
+    }
+
+    @Test
+    void read_malformed() {
+        HttpInputMessage sourceMessage = mockInputMessage("{\"foo\":");
+
+        Assertions.assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(JsonBean.class, sourceMessage));
+    }
+
+    @Test
+    @SneakyThrows
+    void write() {
+        ByteArrayOutputStream actualBody = new ByteArrayOutputStream();
+        HttpOutputMessage sourceMessage = mockOutputMessage(actualBody);
+
+        converter.write(JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create),
+                MediaType.APPLICATION_JSON, sourceMessage);
+
+        Assertions.assertEquals("{\"foo\":\"FOO\"}", actualBody.toString(StandardCharsets.UTF_8.name()));
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, sourceMessage.getHeaders().getContentType());
+    }
+
+    @Test
+    @SneakyThrows
+    void write_serverTiming() {
+        RequestTimings.start(true);
+        ByteArrayOutputStream actualBody = new ByteArrayOutputStream();
+        HttpOutputMessage sourceMessage = mockServerResponse(Mockito.mock(HttpServletResponse.class), actualBody);
+
+        converter.write(JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create),
+                MediaType.APPLICATION_JSON, sourceMessage);
+
+        Assertions.assertEquals("{\"foo\":\"FOO\"}", actualBody.toString(StandardCharsets.UTF_8.name()));
+        Assertions.assertTrue(sourceMessage.getHeaders().getFirst(RequestTimings.SERVER_TIMING)
+                .matches("handler;dur=\\d+\\.\\d{3}, serialize;dur=\\d+\\.\\d{3}"));
+    }
+
+    @Test
+    @SneakyThrows
+    void write_serverTimingOutbound() {
+        RequestTimings sourceTimings = RequestTimings.start(true);
+        ByteArrayOutputStream actualBody = new ByteArrayOutputStream();
+        HttpOutputMessage sourceMessage = mockOutputMessage(actualBody);
+
+        converter.write(JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create),
+                MediaType.APPLICATION_JSON, sourceMessage);
+
+        Assertions.assertEquals("{\"foo\":\"FOO\"}", actualBody.toString(StandardCharsets.UTF_8.name()));
+        Assertions.assertNull(sourceMessage.getHeaders().getFirst(RequestTimings.SERVER_TIMING));
+        Assertions.assertFalse(sourceTimings.isRecorded(RequestTimings.Phase.SERIALIZE));
+        Assertions.assertFalse(sourceTimings.isRecorded(RequestTimings.Phase.HANDLER));
+    }
+
+    @Test
+    @SneakyThrows
+    void write_etag() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.setEtag(true);
+        JsonEntityHttpMessageConverter sourceConverter = new JsonEntityHttpMessageConverter(objectMapper, sourceProperties,
+                new ValidationMemo(new ValidationProperties()));
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+
+        HttpServletResponse firstResponse = mockRequest(null);
+        ByteArrayOutputStream firstBody = new ByteArrayOutputStream();
+        sourceConverter.write(sourceEntity, MediaType.APPLICATION_JSON, mockServerResponse(firstResponse, firstBody));
+
+        ArgumentCaptor<String> actualTag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(firstResponse)
+                .setHeader(Mockito.eq(HttpHeaders.ETAG), actualTag.capture());
+        Assertions.assertEquals("{\"foo\":\"FOO\"}", firstBody.toString(StandardCharsets.UTF_8.name()));
+
+        HttpServletResponse secondResponse = mockRequest(actualTag.getValue());
+        ByteArrayOutputStream secondBody = new ByteArrayOutputStream();
+        sourceConverter.write(sourceEntity, MediaType.APPLICATION_JSON, mockServerResponse(secondResponse, secondBody));
+
+        Mockito.verify(secondResponse)
+                .setStatus(HttpStatus.NOT_MODIFIED.value());
+        Assertions.assertEquals(0, secondBody.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void write_etagOutbound() {
+        SerializationProperties sourceProperties = new SerializationProperties();
+        sourceProperties.setEtag(true);
+        JsonEntityHttpMessageConverter sourceConverter = new JsonEntityHttpMessageConverter(objectMapper, sourceProperties,
+                new ValidationMemo(new ValidationProperties()));
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+
+        HttpServletResponse sourceResponse = mockRequest(null);
+        ByteArrayOutputStream actualBody = new ByteArrayOutputStream();
+        sourceConverter.write(sourceEntity, MediaType.APPLICATION_JSON, mockOutputMessage(actualBody));
+
+        Mockito.verify(sourceResponse, Mockito.never())
+                .setHeader(Mockito.eq(HttpHeaders.ETAG), Mockito.anyString());
+        Assertions.assertEquals("{\"foo\":\"FOO\"}", actualBody.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    static HttpServletResponse mockRequest(String tag) {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.doReturn("GET")
+                .when(request).getMethod();
+        Mockito.doReturn(Collections.emptyEnumeration())
+                .when(request).getHeaders(Mockito.anyString());
+        Mockito.doReturn(Collections.enumeration(tag != null ? Collections.singletonList(tag) : Collections.emptyList()))
+                .when(request).getHeaders(HttpHeaders.IF_NONE_MATCH);
+        Mockito.doReturn(-1L)
+                .when(request).getDateHeader(Mockito.anyString());
+
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        Mockito.doReturn(HttpStatus.OK.value())
+                .when(response).getStatus();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    @SneakyThrows
+    static HttpInputMessage mockInputMessage(String body) {
+        HttpInputMessage message = Mockito.mock(HttpInputMessage.class);
+        Mockito.doReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+                .when(message).getBody();
+        Mockito.doReturn(new HttpHeaders())
+                .when(message).getHeaders();
+        return message;
+    }
+
+    @SneakyThrows
+    static ServletServerHttpResponse mockServerResponse(HttpServletResponse response, ByteArrayOutputStream body) {
+        ServletServerHttpResponse message = Mockito.mock(ServletServerHttpResponse.class);
+        Mockito.doReturn(body)
+                .when(message).getBody();
+        Mockito.doReturn(new HttpHeaders())
+                .when(message).getHeaders();
+        Mockito.doReturn(response)
+                .when(message).getServletResponse();
+        return message;
+    }
+
+    @SneakyThrows
+    static HttpOutputMessage mockOutputMessage(ByteArrayOutputStream body) {
+        HttpOutputMessage message = Mockito.mock(HttpOutputMessage.class);
+        Mockito.doReturn(body)
+                .when(message).getBody();
+        Mockito.doReturn(new HttpHeaders())
+                .when(message).getHeaders();
+        return message;
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JsonMergePatchTest {
+
+    @Test
+    void apply() {
+        JsonBean sourceEntity = JsonParser.stringToEntity(
+                "{'a':'b','c':{'d':'e','f':'g'}}", JsonBean::create);
+        JsonMergePatch sourcePatch = new JsonMergePatch(JsonParser.stringToMap(
+                "{'a':'z','c':{'f':null}}"));
+
+        JsonBean actualEntity = sourcePatch.apply(sourceEntity);
+
+        JsonBean expectedEntity = JsonParser.stringToEntity(
+                "{'a':'z','c':{'d':'e'}}", JsonBean::create);
+        Assertions.assertEquals(expectedEntity.asMap(), actualEntity.asMap());
+        Assertions.assertEquals("b", sourceEntity.asMap().get("a"));
+    }
+
+    @Test
+    void diff() {
+        JsonBean sourceEntity = JsonParser.stringToEntity(
+                "{'a':'b','c':{'d':'e','f':'g'},'h':['i']}", JsonBean::create);
+        JsonBean targetEntity = JsonParser.stringToEntity(
+                "{'a':'b','c':{'d':'e','f':'z'},'j':'k'}", JsonBean::create);
+
+        JsonMergePatch actualPatch = JsonMergePatch.diff(sourceEntity, targetEntity);
+
+        Assertions.assertEquals(JsonParser.stringToMap("{'h':null,'c':{'f':'z'},'j':'k'}"), actualPatch.asMap());
+        Assertions.assertEquals(targetEntity.asMap(), actualPatch.apply(sourceEntity).asMap());
+    }
+
+    @Test
+    void diff_empty() {
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'a':'b'}", JsonBean::create);
+
+        JsonMergePatch actualPatch = JsonMergePatch.diff(sourceEntity, sourceEntity);
+
+        Assertions.assertTrue(actualPatch.isEmpty());
+    }
+
+}
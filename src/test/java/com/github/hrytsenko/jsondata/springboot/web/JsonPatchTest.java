@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Map;
+
+class JsonPatchTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "{'foo':'bar'}|[{'op':'add','path':'/baz','value':'qux'}]|{'foo':'bar','baz':'qux'}",
+            "{'foo':['bar','baz']}|[{'op':'add','path':'/foo/1','value':'qux'}]|{'foo':['bar','qux','baz']}",
+            "{'foo':['bar']}|[{'op':'add','path':'/foo/-','value':'qux'}]|{'foo':['bar','qux']}",
+            "{'foo':'bar','baz':'qux'}|[{'op':'remove','path':'/baz'}]|{'foo':'bar'}",
+            "{'foo':'bar'}|[{'op':'replace','path':'/foo','value':'qux'}]|{'foo':'qux'}",
+            "{'foo':{'bar':'baz'},'qux':{}}|[{'op':'move','from':'/foo/bar','path':'/qux/bar'}]|{'foo':{},'qux':{'bar':'baz'}}",
+            "{'foo':['a','b','c']}|[{'op':'move','from':'/foo/0','path':'/foo/2'}]|{'foo':['b','c','a']}",
+            "{'foo':{'bar':'baz'}}|[{'op':'copy','from':'/foo','path':'/qux'}]|{'foo':{'bar':'baz'},'qux':{'bar':'baz'}}",
+            "{'a/b':'c','d~e':'f'}|[{'op':'test','path':'/a~1b','value':'c'},{'op':'remove','path':'/d~0e'}]|{'a/b':'c'}"
+    })
+    void apply(String sourceJson, String sourcePatchJson, String expectedJson) {
+        JsonBean sourceEntity = JsonParser.stringToEntity(sourceJson, JsonBean::create);
+        JsonPatch sourcePatch = new JsonPatch(parseOperations(sourcePatchJson));
+
+        JsonBean actualEntity = sourcePatch.apply(sourceEntity);
+
+        Assertions.assertEquals(JsonParser.stringToMap(expectedJson), actualEntity.asMap());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "{'foo':'bar'}|[{'op':'test','path':'/foo','value':'baz'}]",
+            "{'foo':'bar'}|[{'op':'add','path':'/baz/qux','value':'qux'}]",
+            "{'foo':'bar'}|[{'op':'remove','path':'/baz'}]",
+            "{'foo':['bar']}|[{'op':'add','path':'/foo/2','value':'qux'}]",
+            "{'foo':'bar'}|[{'op':'replace','path':'','value':'bar'}]"
+    })
+    void apply_failure(String sourceJson, String sourcePatchJson) {
+        JsonBean sourceEntity = JsonParser.stringToEntity(sourceJson, JsonBean::create);
+        JsonPatch sourcePatch = new JsonPatch(parseOperations(sourcePatchJson));
+
+        ServiceException.BadRequest actualException = Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> sourcePatch.apply(sourceEntity));
+
+        Assertions.assertEquals("INVALID_PATCH", actualException.getCode());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "[{'op':'unknown','path':'/foo'}]",
+            "[{'op':'add','path':'foo','value':'bar'}]",
+            "[{'op':'add','path':'/foo'}]",
+            "[{'op':'move','path':'/foo'}]",
+            "[{'op':'move','from':'/foo','path':'/foo/bar'}]"
+    })
+    void create_failure(String sourcePatchJson) {
+        List<Map<String, ?>> sourceOperations = parseOperations(sourcePatchJson);
+
+        Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> new JsonPatch(sourceOperations));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, ?>> parseOperations(String json) {
+        return (List<Map<String, ?>>) JsonParser.stringToMap("{'operations':" + json + "}").get("operations");
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentile_empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.getPercentile(0.99));
+    }
+
+    @Test
+    void getPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertApproximately(500_000, histogram.getPercentile(0.50));
+        assertApproximately(990_000, histogram.getPercentile(0.99));
+        assertApproximately(1_000_000, histogram.getPercentile(1.00));
+    }
+
+    private static void assertApproximately(long expectedValue, long actualValue) {
+        Assertions.assertTrue(actualValue >= expectedValue && actualValue <= expectedValue * 1.25,
+                () -> "Expected about " + expectedValue + " but was " + actualValue);
+    }
+
+}
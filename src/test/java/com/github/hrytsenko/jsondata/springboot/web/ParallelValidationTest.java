@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidatorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ParallelValidationTest {
+
+    static final Map<String, String> SCHEMAS = new HashMap<>();
+
+    static {
+        SCHEMAS.put("items.json", "{'properties':{'items':{'type':'array','items':{'$ref':'#/definitions/item'}}},"
+                + "'required':['items'],"
+                + "'definitions':{'item':{'properties':{'foo':{'enum':['FOO']}},'required':['foo']}}}");
+        SCHEMAS.put("bounded.json", "{'properties':{'items':{'type':'array','maxItems':50,'uniqueItems':true,"
+                + "'items':{'properties':{'foo':{'enum':['FOO']}}}}}}");
+        SCHEMAS.put("tuple.json", "{'properties':{'items':{'type':'array',"
+                + "'items':[{'properties':{'foo':{'enum':['FOO']}}}],'additionalItems':{'properties':{'foo':{'enum':['FOO']}}}}}}");
+    }
+
+    CachingValidatorSource validatorSource;
+    ParallelValidation validation;
+
+    @BeforeEach
+    void init() {
+        ValidationProperties properties = new ValidationProperties();
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setThreshold(10);
+        properties.getParallel().setParallelism(4);
+        validatorSource = new CachingValidatorSource(
+                name -> SCHEMAS.get(name).replace('\'', '"'), new ValidatorStatistics());
+        validation = new ParallelValidation(properties, validatorSource);
+    }
+
+    @AfterEach
+    void destroy() {
+        validation.destroy();
+    }
+
+    @Test
+    void validate_success() {
+        JsonBean sourceEntity = createEntity(100);
+
+        List<String> actualViolations = validation.validate(sourceEntity, "items.json", 10);
+
+        Assertions.assertTrue(actualViolations.isEmpty());
+    }
+
+    @Test
+    void validate_failFast() {
+        JsonBean sourceEntity = createEntity(100, 42, 17, 99);
+
+        List<String> actualViolations = validation.validate(sourceEntity, "items.json", 1);
+
+        Assertions.assertEquals(1, actualViolations.size());
+        Assertions.assertTrue(actualViolations.get(0).startsWith("#/items/17/foo: "));
+    }
+
+    @Test
+    void validate_collectAll() {
+        JsonBean sourceEntity = createEntity(100, 42, 17, 99);
+
+        List<String> actualViolations = validation.validate(sourceEntity, "items.json", 2);
+
+        Assertions.assertEquals(2, actualViolations.size());
+        Assertions.assertTrue(actualViolations.get(0).startsWith("#/items/17/foo: "));
+        Assertions.assertTrue(actualViolations.get(1).startsWith("#/items/42/foo: "));
+    }
+
+    @Test
+    void validate_belowThreshold() {
+        JsonBean sourceEntity = createEntity(5, 3);
+
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> validation.validate(sourceEntity, "items.json", 1));
+    }
+
+    @Test
+    void validate_invalidEntity() {
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'items':'FOO'}", JsonBean::create);
+
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> validation.validate(sourceEntity, "items.json", 1));
+    }
+
+    @Test
+    void validate_maxItems() {
+        JsonBean sourceEntity = createEntity(100, index -> "{'foo':'FOO','id':" + index + "}");
+
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> validation.validate(sourceEntity, "bounded.json", 1));
+    }
+
+    @Test
+    void validate_uniqueItems() {
+        JsonBean sourceEntity = createEntity(20, index -> "{'foo':'FOO'}");
+
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> validation.validate(sourceEntity, "bounded.json", 1));
+    }
+
+    @Test
+    void validate_tupleItems() {
+        JsonBean sourceEntity = createEntity(100, 42);
+
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> validation.validate(sourceEntity, "tuple.json", 1));
+    }
+
+    private static JsonBean createEntity(int size, Integer... invalidItems) {
+        List<Integer> invalid = Arrays.asList(invalidItems);
+        return createEntity(size, index -> invalid.contains(index) ? "{'foo':'BAR'}" : "{'foo':'FOO'}");
+    }
+
+    private static JsonBean createEntity(int size, IntFunction<String> item) {
+        String items = IntStream.range(0, size)
+                .mapToObj(item)
+                .collect(Collectors.joining(",", "[", "]"));
+        return JsonParser.stringToEntity("{'items':" + items + "}", JsonBean::create);
+    }
+
+}
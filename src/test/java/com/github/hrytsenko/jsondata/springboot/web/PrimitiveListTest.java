@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class PrimitiveListTest {
+
+    @Test
+    void longArrayList() {
+        LongArrayList list = new LongArrayList(new long[]{1, 2, 3}, 3);
+
+        list.add(4L);
+        list.add(0, 0L);
+        list.remove(1);
+        list.set(0, 9L);
+
+        Assertions.assertEquals(Arrays.asList(9L, 2L, 3L, 4L), list);
+        Assertions.assertNull(list.getInflated());
+    }
+
+    @Test
+    void longArrayList_inflate() {
+        LongArrayList list = new LongArrayList(new long[]{1, 2, 3}, 3);
+
+        list.add("FOO");
+        list.set(0, 1.5);
+
+        Assertions.assertEquals(Arrays.<Object>asList(1.5, 2L, 3L, "FOO"), list);
+        Assertions.assertNotNull(list.getInflated());
+        Assertions.assertNull(list.getValues());
+    }
+
+    @Test
+    void doubleArrayList() {
+        List<Object> list = new DoubleArrayList(new double[]{1.5, 2.5}, 2);
+
+        list.add(3.5);
+        list.removeIf(value -> (Double) value < 2);
+
+        Assertions.assertEquals(Arrays.asList(2.5, 3.5), list);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(2));
+    }
+
+}
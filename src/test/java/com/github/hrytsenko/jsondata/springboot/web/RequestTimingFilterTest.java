@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class RequestTimingFilterTest {
+
+    @Test
+    @SneakyThrows
+    void doFilter() {
+        RequestTimingsListener sourceListener = Mockito.mock(RequestTimingsListener.class);
+        RequestTimingFilter filter = new RequestTimingFilter(true, Collections.singletonList(sourceListener));
+        HttpServletRequest sourceRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse sourceResponse = Mockito.mock(HttpServletResponse.class);
+        FilterChain sourceChain = (request, response) -> RequestTimings.end(RequestTimings.Phase.PARSE,
+                RequestTimings.begin(RequestTimings.Phase.PARSE));
+
+        filter.doFilter(sourceRequest, sourceResponse, sourceChain);
+
+        Mockito.verify(sourceResponse).setHeader(ArgumentMatchers.eq(RequestTimings.SERVER_TIMING),
+                ArgumentMatchers.matches("parse;dur=\\d+\\.\\d{3}, handler;dur=\\d+\\.\\d{3}"));
+        Mockito.verify(sourceListener).onTimings(ArgumentMatchers.argThat(
+                timings -> timings.isRecorded(RequestTimings.Phase.HANDLER)));
+        Assertions.assertNull(RequestTimings.getHeader());
+    }
+
+    @Test
+    @SneakyThrows
+    void doFilter_committed() {
+        RequestTimingFilter filter = new RequestTimingFilter(true, Collections.emptyList());
+        HttpServletRequest sourceRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse sourceResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.doReturn(true)
+                .when(sourceResponse).isCommitted();
+
+        filter.doFilter(sourceRequest, sourceResponse, (request, response) -> {
+        });
+
+        Mockito.verify(sourceResponse, Mockito.never()).setHeader(
+                ArgumentMatchers.eq(RequestTimings.SERVER_TIMING), ArgumentMatchers.anyString());
+    }
+
+    @Test
+    @SneakyThrows
+    void doFilter_async() {
+        RequestTimingsListener sourceListener = Mockito.mock(RequestTimingsListener.class);
+        RequestTimingFilter filter = new RequestTimingFilter(true, Collections.singletonList(sourceListener));
+        HttpServletRequest sourceRequest = mockRequest();
+        HttpServletResponse sourceResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.doReturn(true, false)
+                .when(sourceRequest).isAsyncStarted();
+
+        filter.doFilterInternal(sourceRequest, sourceResponse, (request, response) -> RequestTimings.end(
+                RequestTimings.Phase.PARSE, RequestTimings.begin(RequestTimings.Phase.PARSE)));
+
+        Mockito.verifyNoInteractions(sourceListener);
+        Mockito.verify(sourceResponse, Mockito.never()).setHeader(
+                ArgumentMatchers.eq(RequestTimings.SERVER_TIMING), ArgumentMatchers.anyString());
+
+        filter.doFilterInternal(sourceRequest, sourceResponse, (request, response) -> RequestTimings.end(
+                RequestTimings.Phase.SERIALIZE, RequestTimings.begin(RequestTimings.Phase.SERIALIZE)));
+
+        Assertions.assertFalse(filter.shouldNotFilterAsyncDispatch());
+        Mockito.verify(sourceResponse).setHeader(ArgumentMatchers.eq(RequestTimings.SERVER_TIMING),
+                ArgumentMatchers.matches(
+                        "parse;dur=\\d+\\.\\d{3}, handler;dur=\\d+\\.\\d{3}, serialize;dur=\\d+\\.\\d{3}"));
+        Mockito.verify(sourceListener).onTimings(ArgumentMatchers.argThat(
+                timings -> timings.isRecorded(RequestTimings.Phase.PARSE)
+                        && timings.isRecorded(RequestTimings.Phase.SERIALIZE)));
+    }
+
+    private static HttpServletRequest mockRequest() {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Map<String, Object> attributes = new HashMap<>();
+        Mockito.doAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)))
+                .when(request).getAttribute(ArgumentMatchers.anyString());
+        Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+        Mockito.doAnswer(invocation -> attributes.remove(invocation.<String>getArgument(0)))
+                .when(request).removeAttribute(ArgumentMatchers.anyString());
+        return request;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void cleanup() {
+        RequestTimings.stop();
+    }
+
+    @Test
+    void phases() {
+        RequestTimings timings = RequestTimings.start(true);
+
+        RequestTimings.end(RequestTimings.Phase.PARSE, RequestTimings.begin(RequestTimings.Phase.PARSE));
+        RequestTimings.end(RequestTimings.Phase.VALIDATE_REQUEST,
+                RequestTimings.begin(RequestTimings.Phase.VALIDATE_REQUEST));
+        RequestTimings.end(RequestTimings.Phase.SERIALIZE, RequestTimings.begin(RequestTimings.Phase.SERIALIZE));
+
+        Assertions.assertTrue(timings.isRecorded(RequestTimings.Phase.PARSE));
+        Assertions.assertTrue(timings.isRecorded(RequestTimings.Phase.VALIDATE_REQUEST));
+        Assertions.assertTrue(timings.isRecorded(RequestTimings.Phase.HANDLER));
+        Assertions.assertFalse(timings.isRecorded(RequestTimings.Phase.VALIDATE_RESPONSE));
+        Assertions.assertTrue(timings.isRecorded(RequestTimings.Phase.SERIALIZE));
+        Assertions.assertTrue(RequestTimings.getHeader().matches(
+                "parse;dur=\\d+\\.\\d{3}, validate-request;dur=\\d+\\.\\d{3}, "
+                        + "handler;dur=\\d+\\.\\d{3}, serialize;dur=\\d+\\.\\d{3}"));
+    }
+
+    @Test
+    void phases_nested() {
+        RequestTimings timings = RequestTimings.start(false);
+
+        long outer = RequestTimings.begin(RequestTimings.Phase.PARSE);
+        long inner = RequestTimings.begin(RequestTimings.Phase.PARSE);
+        RequestTimings.end(RequestTimings.Phase.PARSE, inner);
+        Assertions.assertEquals(0, timings.getNanos(RequestTimings.Phase.PARSE));
+        RequestTimings.end(RequestTimings.Phase.PARSE, outer);
+
+        Assertions.assertEquals(0, inner);
+        Assertions.assertTrue(timings.isRecorded(RequestTimings.Phase.PARSE));
+        Assertions.assertFalse(RequestTimings.isHeaderEnabled());
+    }
+
+    @Test
+    void phases_finish() {
+        RequestTimings timings = RequestTimings.start(false);
+
+        timings.finish();
+
+        Assertions.assertEquals("handler", timings.toHeader().split(";")[0]);
+    }
+
+    @Test
+    void phases_untracked() {
+        long start = RequestTimings.begin(RequestTimings.Phase.PARSE);
+        RequestTimings.end(RequestTimings.Phase.PARSE, start);
+
+        Assertions.assertEquals(0, start);
+        Assertions.assertFalse(RequestTimings.isHeaderEnabled());
+        Assertions.assertNull(RequestTimings.getHeader());
+    }
+
+}
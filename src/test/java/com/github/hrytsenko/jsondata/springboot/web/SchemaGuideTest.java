@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.github.hrytsenko.jsondata.JsonParser.stringToMap;
+
+class SchemaGuideTest {
+
+    @Test
+    void create() {
+        SchemaGuide actualGuide = SchemaGuide.create(stringToMap("{"
+                + "'properties':{'foo':{'$ref':'#/definitions/foo'},'bar':{'type':'array','minItems':2,'items':{}}},"
+                + "'additionalProperties':false,"
+                + "'definitions':{'foo':{'type':'string'}}}"));
+
+        Assertions.assertTrue(actualGuide.isClosed());
+        Assertions.assertFalse(actualGuide.isUnknown("foo"));
+        Assertions.assertTrue(actualGuide.isUnknown("baz"));
+        Assertions.assertEquals("string", actualGuide.getProperty("foo").getType());
+        Assertions.assertEquals(2, actualGuide.getProperty("bar").getCapacity());
+    }
+
+    @Test
+    void create_open() {
+        SchemaGuide actualGuide = SchemaGuide.create(stringToMap(
+                "{'properties':{'foo':{}},'patternProperties':{'^x-':{}}}"));
+
+        Assertions.assertFalse(actualGuide.isClosed());
+        Assertions.assertFalse(actualGuide.isUnknown("baz"));
+    }
+
+    @Test
+    void create_additionalProperties() {
+        SchemaGuide actualGuide = SchemaGuide.create(stringToMap(
+                "{'properties':{'foo':{}},'additionalProperties':true}"));
+
+        Assertions.assertFalse(actualGuide.isClosed());
+        Assertions.assertFalse(actualGuide.isUnknown("baz"));
+    }
+
+    @Test
+    void create_undeclaredAdditionalProperties() {
+        SchemaGuide actualGuide = SchemaGuide.create(stringToMap("{'properties':{'foo':{}}}"));
+
+        Assertions.assertFalse(actualGuide.isClosed());
+        Assertions.assertFalse(actualGuide.isUnknown("baz"));
+    }
+
+    @Test
+    void create_composite() {
+        SchemaGuide actualGuide = SchemaGuide.create(stringToMap(
+                "{'properties':{'foo':{}},'anyOf':[{'required':['foo']}]}"));
+
+        Assertions.assertFalse(actualGuide.isUnknown("baz"));
+    }
+
+}
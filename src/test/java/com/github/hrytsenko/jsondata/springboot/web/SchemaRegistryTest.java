@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import com.github.hrytsenko.jsondata.JsonValidatorException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class SchemaRegistryTest {
+
+    Map<String, String> schemas;
+    ValidatorStatistics statistics;
+    SchemaRegistry registry;
+
+    @BeforeEach
+    void init() {
+        schemas = new HashMap<>();
+        schemas.put("/schemas/order.json",
+                "{\"properties\":{\"address\":{\"$ref\":\"common.json#/definitions/address\"}}}");
+        schemas.put("/schemas/invoice.json",
+                "{\"properties\":{\"address\":{\"$ref\":\"/schemas/common.json#/definitions/address\"}}}");
+        schemas.put("/schemas/common.json",
+                "{\"definitions\":{\"address\":{\"properties\":{\"zip\":{\"$ref\":\"#/definitions/zip\"}}},"
+                        + "\"zip\":{\"type\":\"string\"}}}");
+        statistics = new ValidatorStatistics();
+        registry = new SchemaRegistry(schemas::get, statistics);
+    }
+
+    @Test
+    void getValidator() {
+        JsonValidator actualValidator = registry.getValidator("/schemas/order.json");
+
+        Assertions.assertDoesNotThrow(
+                () -> actualValidator.validate(entity("{'address':{'zip':'12345'}}")));
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> actualValidator.validate(entity("{'address':{'zip':12345}}")));
+    }
+
+    @Test
+    void getValidator_shared() {
+        JsonValidator actualValidator = registry.getValidator("/schemas/order.json");
+
+        Assertions.assertSame(actualValidator, registry.getValidator("/schemas/invoice.json"));
+        Assertions.assertEquals(1, registry.getCompiledCount());
+    }
+
+    @Test
+    void getValidator_fragment() {
+        JsonValidator actualValidator = registry.getValidator("/schemas/common.json#/definitions/address");
+
+        Assertions.assertDoesNotThrow(
+                () -> actualValidator.validate(entity("{'zip':'12345'}")));
+        Assertions.assertThrows(JsonValidatorException.class,
+                () -> actualValidator.validate(entity("{'zip':12345}")));
+    }
+
+    @Test
+    void getSchema() {
+        Map<String, ?> actualSchema = registry.getSchema("/schemas/order.json");
+
+        Map<String, ?> expectedSchema = JsonParser.stringToMap("{'properties':{'address':"
+                + "{'$ref':'#/definitions/~1schemas~1common.json/definitions/address'}},"
+                + "'definitions':{'/schemas/common.json':{'definitions':{'address':{'properties':"
+                + "{'zip':{'$ref':'#/definitions/~1schemas~1common.json/definitions/zip'}}},"
+                + "'zip':{'type':'string'}}}}}");
+        Assertions.assertEquals(expectedSchema, actualSchema);
+    }
+
+    @Test
+    void recompile_dependency() {
+        JsonValidator sourceValidator = registry.getValidator("/schemas/order.json");
+        schemas.put("/schemas/common.json",
+                "{\"definitions\":{\"address\":{\"properties\":{\"zip\":{\"type\":\"integer\"}}}}}");
+
+        JsonValidator actualResult = registry.recompile("/schemas/common.json");
+
+        Assertions.assertNull(actualResult);
+        Assertions.assertFalse(registry.getNames().contains("/schemas/common.json"));
+        Assertions.assertNull(statistics.getSchema("/schemas/common.json"));
+        JsonValidator actualValidator = registry.getValidator("/schemas/order.json");
+        Assertions.assertNotSame(sourceValidator, actualValidator);
+        Assertions.assertDoesNotThrow(
+                () -> actualValidator.validate(entity("{'address':{'zip':12345}}")));
+    }
+
+    @Test
+    void contains_dependency() {
+        registry.getValidator("/schemas/order.json");
+
+        Assertions.assertTrue(registry.contains("/schemas/common.json"));
+        Assertions.assertFalse(registry.contains("/schemas/unknown.json"));
+    }
+
+    @Test
+    void evict_dependency() {
+        registry.getValidator("/schemas/order.json");
+        registry.getValidator("/schemas/invoice.json");
+
+        Assertions.assertTrue(registry.evict("/schemas/common.json"));
+
+        Assertions.assertTrue(registry.getNames().isEmpty());
+        Assertions.assertEquals(0, registry.getCompiledCount());
+        Assertions.assertEquals(0, registry.getTotalMemory());
+    }
+
+    private static JsonBean entity(String json) {
+        return JsonParser.stringToEntity(json, JsonBean::create);
+    }
+
+}
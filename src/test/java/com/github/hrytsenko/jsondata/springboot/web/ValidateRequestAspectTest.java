@@ -20,20 +20,33 @@ import com.github.hrytsenko.jsondata.JsonParser;
 import com.github.hrytsenko.jsondata.JsonValidator;
 import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
 import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.web.context.request.RequestContextHolder;
 
 class ValidateRequestAspectTest {
 
     ValidatorSource validatorSource;
+    ValidationProperties validationProperties;
+    ValidationMemo validationMemo;
     ValidateRequestAspect aspect;
 
     @BeforeEach
     void init() {
         validatorSource = Mockito.mock(ValidatorSource.class);
-        aspect = new ValidateRequestAspect(validatorSource);
+        validationProperties = new ValidationProperties();
+        validationProperties.getMemo().setEnabled(true);
+        validationMemo = new ValidationMemo(validationProperties);
+        aspect = new ValidateRequestAspect(validatorSource, validationProperties,
+                new ParallelValidation(validationProperties, validatorSource), new ValidatorStatistics(), validationMemo);
+    }
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -43,7 +56,7 @@ class ValidateRequestAspectTest {
         JsonBean sourceRequest = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
 
         JoinPoint sourceJoinPoint = mockJoinPoint(sourceRequest);
-        ValidateRequest sourceConfig = Mockito.mock(ValidateRequest.class);
+        ValidateRequest sourceConfig = mockConfig();
 
         Mockito.doReturn(sourceValidator)
                 .when(validatorSource).getValidator(Mockito.any());
@@ -59,13 +72,194 @@ class ValidateRequestAspectTest {
         JsonBean sourceRequest = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
 
         JoinPoint sourcePoint = mockJoinPoint(sourceRequest);
-        ValidateRequest sourceConfig = Mockito.mock(ValidateRequest.class);
+        ValidateRequest sourceConfig = mockConfig();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+    }
+
+    @Test
+    void validate_failureFailFast() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceRequest = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+
+        JoinPoint sourcePoint = mockJoinPoint(sourceRequest);
+        ValidateRequest sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.FAIL_FAST)
+                .when(sourceConfig).mode();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        ServiceException.BadRequest actualException = Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+        Assertions.assertTrue(actualException.getDetails().isEmpty());
+    }
+
+    @Test
+    void validate_failureCollectAll() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceRequest = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+
+        JoinPoint sourcePoint = mockJoinPoint(sourceRequest);
+        ValidateRequest sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.COLLECT_ALL)
+                .when(sourceConfig).mode();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        ServiceException.BadRequest actualException = Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+        Assertions.assertFalse(actualException.getDetails().isEmpty());
+    }
+
+    @Test
+    void validate_patch() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+        JsonMergePatch sourcePatch = new JsonMergePatch(JsonParser.stringToMap("{'foo':'BAR'}"));
+
+        JoinPoint sourcePoint = mockJoinPoint(sourcePatch);
+        ValidateRequest sourceConfig = mockConfig();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        Assertions.assertDoesNotThrow(
+                () -> aspect.handle(sourcePoint, sourceConfig));
+        Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> sourcePatch.apply(sourceEntity));
+    }
+
+    @Test
+    void validate_patchAfterPathVariable() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+        JsonMergePatch sourcePatch = new JsonMergePatch(JsonParser.stringToMap("{'foo':'BAR'}"));
+
+        JoinPoint sourcePoint = mockJoinPoint("id", sourcePatch);
+        ValidateRequest sourceConfig = mockConfig();
 
         Mockito.doReturn(sourceValidator)
                 .when(validatorSource).getValidator(Mockito.any());
 
+        Assertions.assertDoesNotThrow(
+                () -> aspect.handle(sourcePoint, sourceConfig));
         Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> sourcePatch.apply(sourceEntity));
+    }
+
+    @Test
+    void validate_noEntity() {
+        JoinPoint sourcePoint = mockJoinPoint("id");
+        ValidateRequest sourceConfig = mockConfig();
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+    }
+
+    @Test
+    void validate_patchTimings() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceEntity = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+        JsonMergePatch sourcePatch = new JsonMergePatch(JsonParser.stringToMap("{'foo':'FOO'}"));
+
+        JoinPoint sourcePoint = mockJoinPoint(sourcePatch);
+        ValidateRequest sourceConfig = mockConfig();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        RequestTimings actualTimings = RequestTimings.start(false);
+        try {
+            aspect.handle(sourcePoint, sourceConfig);
+            Assertions.assertFalse(actualTimings.isRecorded(RequestTimings.Phase.VALIDATE_REQUEST));
+
+            sourcePatch.apply(sourceEntity);
+            Assertions.assertTrue(actualTimings.isRecorded(RequestTimings.Phase.VALIDATE_REQUEST));
+        } finally {
+            RequestTimings.stop();
+        }
+    }
+
+    @Test
+    void validate_memo() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceRequest = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+
+        JoinPoint sourcePoint = mockJoinPoint(sourceRequest);
+        ValidateRequest sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.COLLECT_ALL)
+                .when(sourceConfig).mode();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        ValidationMemoTest.mockRequestAttributes();
+        ValidationMemo.rememberDigest(sourceRequest, new byte[]{1, 2, 3});
+
+        ServiceException.BadRequest expectedException = Assertions.assertThrows(ServiceException.BadRequest.class,
                 () -> aspect.handle(sourcePoint, sourceConfig));
+        ServiceException.BadRequest actualException = Assertions.assertThrows(ServiceException.BadRequest.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+
+        Assertions.assertEquals(expectedException.getDetails(), actualException.getDetails());
+        Assertions.assertEquals(1, validationMemo.getHits());
+        Assertions.assertEquals(1, validationMemo.getMisses());
+    }
+
+    @Test
+    void validate_parallelInvalidShell() {
+        validationProperties.getParallel().setEnabled(true);
+        validationProperties.getParallel().setThreshold(2);
+        validationProperties.setMaxViolations(5);
+        CachingValidatorSource sourceValidatorSource = new CachingValidatorSource(
+                name -> "{\"properties\":{\"items\":{\"maxItems\":2,\"items\":{\"required\":[\"foo\"]}}}}",
+                new ValidatorStatistics());
+        ParallelValidation parallelValidation = new ParallelValidation(validationProperties, sourceValidatorSource);
+        ValidateRequestAspect parallelAspect = new ValidateRequestAspect(sourceValidatorSource, validationProperties,
+                parallelValidation, new ValidatorStatistics(), validationMemo);
+        JsonBean sourceRequest = JsonParser.stringToEntity(
+                "{'items':[{'foo':1},{'foo':2},{'foo':3}]}", JsonBean::create);
+
+        JoinPoint sourcePoint = mockJoinPoint(sourceRequest);
+        ValidateRequest sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.COLLECT_ALL)
+                .when(sourceConfig).mode();
+
+        ValidationMemoTest.mockRequestAttributes();
+        ValidationMemo.rememberDigest(sourceRequest, new byte[]{1, 2, 3});
+
+        try {
+            ServiceException.BadRequest expectedException = Assertions.assertThrows(
+                    ServiceException.BadRequest.class, () -> parallelAspect.handle(sourcePoint, sourceConfig));
+            ServiceException.BadRequest actualException = Assertions.assertThrows(
+                    ServiceException.BadRequest.class, () -> parallelAspect.handle(sourcePoint, sourceConfig));
+
+            Assertions.assertEquals(1, expectedException.getDetails().size());
+            Assertions.assertTrue(expectedException.getDetails().get(0).startsWith("#/items: "));
+            Assertions.assertEquals(expectedException.getDetails(), actualException.getDetails());
+            Assertions.assertEquals(1, validationMemo.getHits());
+        } finally {
+            parallelValidation.destroy();
+        }
+    }
+
+    private ValidateRequest mockConfig() {
+        ValidateRequest config = Mockito.mock(ValidateRequest.class);
+        Mockito.doReturn("schema.json")
+                .when(config).value();
+        return config;
     }
 
     private JoinPoint mockJoinPoint(Object... arguments) {
@@ -26,15 +26,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 class ValidateResponseAspectTest {
 
     ValidatorSource validatorSource;
+    ValidationProperties validationProperties;
     ValidateResponseAspect aspect;
 
     @BeforeEach
     void init() {
         validatorSource = Mockito.mock(ValidatorSource.class);
-        aspect = new ValidateResponseAspect(validatorSource);
+        validationProperties = new ValidationProperties();
+        aspect = new ValidateResponseAspect(validatorSource, validationProperties,
+                new ValidatorStatistics());
     }
 
     @Test
@@ -44,7 +51,7 @@ class ValidateResponseAspectTest {
         JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
 
         ProceedingJoinPoint sourceJoinPoint = mockJoinPoint(sourceResponse);
-        ValidateResponse sourceConfig = Mockito.mock(ValidateResponse.class);
+        ValidateResponse sourceConfig = mockConfig();
 
         Mockito.doReturn(sourceValidator)
                 .when(validatorSource).getValidator(Mockito.any());
@@ -60,7 +67,7 @@ class ValidateResponseAspectTest {
         JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
 
         ProceedingJoinPoint sourcePoint = mockJoinPoint(sourceResponse);
-        ValidateResponse sourceConfig = Mockito.mock(ValidateResponse.class);
+        ValidateResponse sourceConfig = mockConfig();
 
         Mockito.doReturn(sourceValidator)
                 .when(validatorSource).getValidator(Mockito.any());
@@ -69,6 +76,93 @@ class ValidateResponseAspectTest {
                 () -> aspect.handle(sourcePoint, sourceConfig));
     }
 
+    @Test
+    void validate_failureFailFast() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+
+        ProceedingJoinPoint sourcePoint = mockJoinPoint(sourceResponse);
+        ValidateResponse sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.FAIL_FAST)
+                .when(sourceConfig).mode();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        ServiceException.InternalError actualException = Assertions.assertThrows(ServiceException.InternalError.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+        Assertions.assertTrue(actualException.getDetails().isEmpty());
+    }
+
+    @Test
+    void validate_failureCollectAll() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+
+        ProceedingJoinPoint sourcePoint = mockJoinPoint(sourceResponse);
+        ValidateResponse sourceConfig = mockConfig();
+        Mockito.doReturn(ValidationMode.COLLECT_ALL)
+                .when(sourceConfig).mode();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        ServiceException.InternalError actualException = Assertions.assertThrows(ServiceException.InternalError.class,
+                () -> aspect.handle(sourcePoint, sourceConfig));
+        Assertions.assertFalse(actualException.getDetails().isEmpty());
+    }
+
+    @Test
+    @SneakyThrows
+    void validate_completionStage() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'BAR'}", JsonBean::create);
+        CompletableFuture<JsonBean> sourceFuture = new CompletableFuture<>();
+
+        ProceedingJoinPoint sourcePoint = mockJoinPoint(sourceFuture);
+        ValidateResponse sourceConfig = mockConfig();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        CompletableFuture<?> actualFuture = (CompletableFuture<?>) aspect.handle(sourcePoint, sourceConfig);
+        Assertions.assertFalse(actualFuture.isDone());
+
+        sourceFuture.complete(sourceResponse);
+
+        ExecutionException actualException = Assertions.assertThrows(ExecutionException.class, actualFuture::get);
+        Assertions.assertTrue(actualException.getCause() instanceof ServiceException.InternalError);
+    }
+
+    @Test
+    @SneakyThrows
+    void validate_callable() {
+        JsonValidator sourceValidator = JsonValidator.create(
+                "{\"properties\":{\"foo\":{\"enum\":[\"FOO\"]}},\"required\":[\"foo\"]}");
+        JsonBean sourceResponse = JsonParser.stringToEntity("{'foo':'FOO'}", JsonBean::create);
+        Callable<JsonBean> sourceCallable = () -> sourceResponse;
+
+        ProceedingJoinPoint sourcePoint = mockJoinPoint(sourceCallable);
+        ValidateResponse sourceConfig = mockConfig();
+
+        Mockito.doReturn(sourceValidator)
+                .when(validatorSource).getValidator(Mockito.any());
+
+        Callable<?> actualCallable = (Callable<?>) aspect.handle(sourcePoint, sourceConfig);
+
+        Assertions.assertSame(sourceResponse, actualCallable.call());
+    }
+
+    private ValidateResponse mockConfig() {
+        ValidateResponse config = Mockito.mock(ValidateResponse.class);
+        Mockito.doReturn("schema.json")
+                .when(config).value();
+        return config;
+    }
+
     @SneakyThrows
     private ProceedingJoinPoint mockJoinPoint(Object result) {
         ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
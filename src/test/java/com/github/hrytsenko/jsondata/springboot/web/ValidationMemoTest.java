@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class ValidationMemoTest {
+
+    ValidationProperties validationProperties;
+
+    @BeforeEach
+    void init() {
+        validationProperties = new ValidationProperties();
+        validationProperties.getMemo().setEnabled(true);
+        mockRequestAttributes();
+    }
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getKey() {
+        ValidationMemo memo = new ValidationMemo(validationProperties);
+        Object sourceEntity = new Object();
+
+        ValidationMemo.rememberDigest(sourceEntity, new byte[]{1, 2, 3});
+
+        Assertions.assertNotNull(memo.getKey(sourceEntity, "schema.json", ValidationMode.FAIL_FAST));
+        Assertions.assertNotEquals(
+                memo.getKey(sourceEntity, "schema.json", ValidationMode.FAIL_FAST),
+                memo.getKey(sourceEntity, "schema.json", ValidationMode.COLLECT_ALL));
+        Assertions.assertNull(memo.getKey(new Object(), "schema.json", ValidationMode.FAIL_FAST));
+    }
+
+    @Test
+    void getKey_disabled() {
+        validationProperties.getMemo().setEnabled(false);
+        ValidationMemo memo = new ValidationMemo(validationProperties);
+        Object sourceEntity = new Object();
+
+        ValidationMemo.rememberDigest(sourceEntity, new byte[]{1, 2, 3});
+
+        Assertions.assertNull(memo.getKey(sourceEntity, "schema.json", ValidationMode.FAIL_FAST));
+    }
+
+    @Test
+    void recall() {
+        ValidationMemo memo = new ValidationMemo(validationProperties);
+        Object sourceVersion = new Object();
+
+        Assertions.assertNull(memo.recall("key", sourceVersion));
+
+        memo.remember("key", sourceVersion, Collections.singletonList("violation"));
+
+        Assertions.assertEquals(Collections.singletonList("violation"), memo.recall("key", sourceVersion).getViolations());
+        Assertions.assertNull(memo.recall("key", new Object()));
+        Assertions.assertEquals(1, memo.getHits());
+        Assertions.assertEquals(2, memo.getMisses());
+    }
+
+    @Test
+    void remember_bounded() {
+        validationProperties.getMemo().setMaxSize(2);
+        ValidationMemo memo = new ValidationMemo(validationProperties);
+
+        memo.remember("foo", null, null);
+        memo.remember("bar", null, null);
+        memo.remember("baz", null, null);
+
+        Assertions.assertEquals(2, memo.getSize());
+        Assertions.assertNotNull(memo.recall("baz", null));
+    }
+
+    @Test
+    void remember_boundedConcurrently() throws InterruptedException {
+        validationProperties.getMemo().setMaxSize(4);
+        ValidationMemo memo = new ValidationMemo(validationProperties);
+
+        Thread[] threads = new Thread[8];
+        for (int thread = 0; thread < threads.length; thread++) {
+            int offset = thread * 1000;
+            threads[thread] = new Thread(() -> {
+                for (int key = 0; key < 1000; key++) {
+                    memo.remember("key-" + (offset + key), null, null);
+                }
+            });
+            threads[thread].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertTrue(memo.getSize() <= 4);
+    }
+
+    static void mockRequestAttributes() {
+        Map<String, Object> attributes = new HashMap<>();
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(Mockito.anyString(), Mockito.any());
+        Mockito.doAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)))
+                .when(request).getAttribute(Mockito.anyString());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ValidationPropertiesTest {
+
+    @Test
+    void resolveMode() {
+        ValidationProperties properties = new ValidationProperties();
+        properties.setMode(ValidationMode.COLLECT_ALL);
+
+        Assertions.assertEquals(ValidationMode.COLLECT_ALL, properties.resolveMode(ValidationMode.DEFAULT));
+        Assertions.assertEquals(ValidationMode.FAIL_FAST, properties.resolveMode(ValidationMode.FAIL_FAST));
+        Assertions.assertEquals(ValidationMode.COLLECT_ALL, properties.resolveMode(ValidationMode.COLLECT_ALL));
+    }
+
+    @Test
+    void setMode_default() {
+        ValidationProperties properties = new ValidationProperties();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> properties.setMode(ValidationMode.DEFAULT));
+    }
+
+}
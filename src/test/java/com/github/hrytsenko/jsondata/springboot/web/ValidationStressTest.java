@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidatorException;
+import com.github.hrytsenko.jsondata.springboot.StressHarness;
+import com.github.hrytsenko.jsondata.springboot.error.ServiceException;
+import lombok.SneakyThrows;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag(StressHarness.TAG)
+class ValidationStressTest {
+
+    private static final int SCHEMAS = 64;
+    private static final int OPERATIONS = 200_000;
+    private static final int RETAINED_ENTITIES = 20;
+    private static final int RETAINED_ITEMS = 5_000;
+
+    @Test
+    void getValidator() {
+        Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        ValidatorStatistics statistics = new ValidatorStatistics();
+        CachingValidatorSource validatorSource = new CachingValidatorSource(name -> {
+            loads.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+            return schema(name);
+        }, statistics);
+
+        StressHarness.run("validator-source", OPERATIONS, () -> index -> {
+            String name = "schema-" + index % SCHEMAS;
+            assertValidation(validatorSource, name, index);
+            statistics.recordValidation(name, 1, false);
+        });
+
+        Assertions.assertEquals(SCHEMAS, validatorSource.getNames().size());
+        Assertions.assertEquals(SCHEMAS, statistics.getSchemas().size());
+        loads.forEach((name, count) -> Assertions.assertEquals(1, count.get(), name));
+    }
+
+    @Test
+    void getValidator_registry() {
+        SchemaRegistry registry = new SchemaRegistry(name -> name.startsWith("common")
+                ? "{\"definitions\":{\"foo\":{\"type\":\"string\",\"pattern\":\"^FOO\"}}}"
+                : "{\"properties\":{\"foo\":{\"$ref\":\"common.json#/definitions/foo\"}},\"required\":[\"foo\"]}",
+                new ValidatorStatistics());
+
+        StressHarness.run("schema-registry", OPERATIONS, () -> index ->
+                assertValidation(registry, "schema-" + index % SCHEMAS, index));
+
+        Assertions.assertEquals(SCHEMAS, registry.getNames().size());
+        Assertions.assertEquals(1, registry.getCompiledCount());
+    }
+
+    @Test
+    void validateRequest_memo() {
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.setMode(ValidationMode.COLLECT_ALL);
+        validationProperties.getMemo().setEnabled(true);
+        validationProperties.getMemo().setMaxSize(SCHEMAS);
+        ValidationMemo validationMemo = new ValidationMemo(validationProperties);
+        ValidatorStatistics statistics = new ValidatorStatistics();
+        CachingValidatorSource validatorSource = new CachingValidatorSource(ValidationStressTest::schema, statistics);
+        ValidateRequestAspect aspect = new ValidateRequestAspect(validatorSource, validationProperties,
+                new ParallelValidation(validationProperties, validatorSource), statistics, validationMemo);
+        ValidateRequest config = getConfig();
+
+        StressHarness.run("validate-request-memo", OPERATIONS, () -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                    StressHarness.mockRequest(Collections.emptyMap()))));
+            return index -> {
+                int body = index % (2 * SCHEMAS);
+                JsonBean entity = entity(body);
+                ValidationMemo.rememberDigest(entity, new byte[]{(byte) body});
+                if (isValid(body)) {
+                    aspect.handle(mockJoinPoint(entity), config);
+                } else {
+                    ServiceException.BadRequest exception = Assertions.assertThrows(ServiceException.BadRequest.class,
+                            () -> aspect.handle(mockJoinPoint(entity), config));
+                    Assertions.assertFalse(exception.getDetails().isEmpty());
+                }
+            };
+        });
+
+        Assertions.assertTrue(validationMemo.getSize() <= SCHEMAS);
+        Assertions.assertTrue(validationMemo.getHits() > 0);
+    }
+
+    @Test
+    @SneakyThrows
+    void serialization() {
+        SerializationProperties serializationProperties = new SerializationProperties();
+        serializationProperties.setPrimitiveArrays(true);
+        serializationProperties.getCanonical().setValues(true);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+                .registerModule(JacksonConfiguration.createModule(serializationProperties));
+        Map<Integer, String> bodies = new HashMap<>();
+        for (int body = 0; body < SCHEMAS; body++) {
+            bodies.put(body, "{\"foo\":\"FOO-" + body + "\",\"bar\":[" + body + "," + (body + 1) + "]}");
+        }
+
+        StressHarness.run("serialization", OPERATIONS, () -> index -> {
+            String body = bodies.get(index % SCHEMAS);
+            Assertions.assertEquals(body, write(objectMapper, read(objectMapper, body)));
+        });
+    }
+
+    @Test
+    void serialization_retainedHeap() {
+        String body = IntStream.range(0, RETAINED_ITEMS)
+                .mapToObj(item -> "{\"id\":" + item + ",\"name\":\"NAME-" + item + "\",\"status\":\"ACTIVE\"}")
+                .collect(Collectors.joining(",", "{\"items\":[", "]}"));
+
+        long plainHeap = retainedHeap(new SerializationProperties(), body);
+        SerializationProperties canonicalProperties = new SerializationProperties();
+        canonicalProperties.getCanonical().setValues(true);
+        long canonicalHeap = retainedHeap(canonicalProperties, body);
+
+        System.out.printf(Locale.ROOT, "[%s] %-24s plain=%,d bytes canonical=%,d bytes%n",
+                StressHarness.TAG, "retained-heap", plainHeap, canonicalHeap);
+    }
+
+    private static void assertValidation(ValidatorSource validatorSource, String name, int index) {
+        JsonBean entity = entity(index);
+        if (isValid(index)) {
+            validatorSource.getValidator(name).validate(entity);
+        } else {
+            Assertions.assertThrows(JsonValidatorException.class,
+                    () -> validatorSource.getValidator(name).validate(entity));
+        }
+    }
+
+    private static String schema(String name) {
+        return "{\"properties\":{\"foo\":{\"type\":\"string\",\"pattern\":\"^FOO\"}},\"required\":[\"foo\"]}";
+    }
+
+    private static boolean isValid(int index) {
+        return index % 2 == 0;
+    }
+
+    private static JsonBean entity(int index) {
+        return JsonParser.stringToEntity(isValid(index)
+                ? "{'foo':'FOO-" + index + "'}"
+                : "{'foo':'BAR-" + index + "'}", JsonBean::create);
+    }
+
+    private static long retainedHeap(SerializationProperties serializationProperties, String body) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+                .registerModule(JacksonConfiguration.createModule(serializationProperties));
+        long before = usedHeap();
+        List<JsonBean> entities = new ArrayList<>();
+        for (int entity = 0; entity < RETAINED_ENTITIES; entity++) {
+            entities.add(read(objectMapper, body));
+        }
+        long after = usedHeap();
+        Assertions.assertEquals(RETAINED_ENTITIES, entities.size());
+        return (after - before) / RETAINED_ENTITIES;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @SneakyThrows
+    private static JsonBean read(ObjectMapper objectMapper, String body) {
+        return objectMapper.readValue(body, JsonBean.class);
+    }
+
+    @SneakyThrows
+    private static String write(ObjectMapper objectMapper, JsonBean entity) {
+        return objectMapper.writeValueAsString(entity);
+    }
+
+    @SneakyThrows
+    private static ValidateRequest getConfig() {
+        return ValidationStressTest.class.getDeclaredMethod("validated").getAnnotation(ValidateRequest.class);
+    }
+
+    @ValidateRequest("schema.json")
+    private static void validated() {
+    }
+
+    private static JoinPoint mockJoinPoint(Object argument) {
+        return StressHarness.mockProxy(JoinPoint.class, "getArgs", arguments -> new Object[]{argument});
+    }
+
+}
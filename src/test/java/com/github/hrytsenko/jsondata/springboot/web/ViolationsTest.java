@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import com.github.hrytsenko.jsondata.JsonBean;
+import com.github.hrytsenko.jsondata.JsonParser;
+import com.github.hrytsenko.jsondata.JsonValidator;
+import com.github.hrytsenko.jsondata.JsonValidatorException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+class ViolationsTest {
+
+    static final JsonValidator VALIDATOR = JsonValidator.create(
+            "{\"properties\":{\"foo\":{\"type\":\"string\"},"
+                    + "\"bar\":{\"items\":{\"properties\":{\"baz\":{\"type\":\"integer\"}}}}}}");
+
+    @Test
+    void describe_failFast() {
+        List<String> actualViolations = Violations.describe(
+                validate("{'foo':1,'bar':[{'baz':'BAZ'}]}"), ValidationMode.FAIL_FAST, 10);
+
+        Assertions.assertEquals(Collections.emptyList(), actualViolations);
+    }
+
+    @Test
+    void describe_collectAll() {
+        List<String> actualViolations = Violations.describe(
+                validate("{'foo':1,'bar':[{'baz':'BAZ'}]}"), ValidationMode.COLLECT_ALL, 10);
+
+        Assertions.assertEquals(2, actualViolations.size());
+        Assertions.assertTrue(actualViolations.stream().anyMatch(violation -> violation.startsWith("#/foo: ")));
+        Assertions.assertTrue(actualViolations.stream().anyMatch(violation -> violation.startsWith("#/bar/0/baz: ")));
+    }
+
+    @Test
+    void describe_collectAllBounded() {
+        List<String> actualViolations = Violations.describe(
+                validate("{'foo':1,'bar':[{'baz':'BAZ'}]}"), ValidationMode.COLLECT_ALL, 1);
+
+        Assertions.assertEquals(1, actualViolations.size());
+    }
+
+    @Test
+    void describe_collectAllUnstructured() {
+        Exception sourceException = new IllegalStateException("FOO\nBAR");
+
+        List<String> actualViolations = Violations.describe(sourceException, ValidationMode.COLLECT_ALL, 10);
+
+        Assertions.assertEquals(Collections.singletonList("FOO\nBAR"), actualViolations);
+    }
+
+    static JsonValidatorException validate(String json) {
+        return Assertions.assertThrows(JsonValidatorException.class,
+                () -> VALIDATOR.validate(JsonParser.stringToEntity(json, JsonBean::create)));
+    }
+
+}
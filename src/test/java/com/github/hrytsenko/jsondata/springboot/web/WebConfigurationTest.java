@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2020 Anton Hrytsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.hrytsenko.jsondata.springboot.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class WebConfigurationTest {
+
+    @Test
+    void validateRequestAspect() {
+        WebConfiguration configuration = new WebConfiguration();
+        ValidationProperties validationProperties = new ValidationProperties();
+        ValidatorSource validatorSource = Mockito.mock(ValidatorSource.class);
+
+        Assertions.assertNotNull(configuration.validateRequestAspect(
+                validatorSource, validationProperties,
+                configuration.parallelValidation(validationProperties, validatorSource), new ValidatorStatistics(),
+                configuration.validationMemo(validationProperties)));
+    }
+
+    @Test
+    void validateResponseAspect() {
+        WebConfiguration configuration = new WebConfiguration();
+
+        Assertions.assertNotNull(configuration.validateResponseAspect(
+                Mockito.mock(ValidatorSource.class), new ValidationProperties(), new ValidatorStatistics()));
+    }
+
+}